@@ -0,0 +1,14 @@
+package com.example.realestate.config;
+
+import java.lang.annotation.*;
+
+/**
+ * Runs the annotated method (or every method of the annotated class) on the ANALYTICS
+ * connection pool when its transaction is read-only. For reports and dashboards that scan
+ * large tables and must not compete with search for connections.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AnalyticsWorkload {
+}
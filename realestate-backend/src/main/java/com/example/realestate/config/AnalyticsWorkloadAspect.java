@@ -0,0 +1,28 @@
+package com.example.realestate.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Flags @AnalyticsWorkload calls for WorkloadRoutingDataSource.
+ * Runs outside the transaction advice so the flag is set before any connection is taken.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AnalyticsWorkloadAspect {
+
+    @Around("@within(com.example.realestate.config.AnalyticsWorkload) || @annotation(com.example.realestate.config.AnalyticsWorkload)")
+    public Object runAsAnalytics(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = WorkloadRoutingDataSource.enterAnalytics();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadRoutingDataSource.exitAnalytics(previous);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.realestate.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Reference-data caches. Size, TTL and stats recording come from spring.cache.caffeine.spec.
+ * The caching advice runs outside the transactional one, so @CacheEvict fires after commit
+ * and a concurrent reader cannot re-cache the pre-commit row.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String CITIES = "cities";
+    public static final String AREAS = "areas";
+    public static final String PROPERTY_TYPES = "propertyTypes";
+    public static final String CONFIGURATION = "configuration";
+    public static final String PRIMARY_IMAGES = "primaryImages";
+
+    // Serialized response bodies with their ETags, see EtagResponseCache
+    public static final String REFERENCE_RESPONSES = "referenceResponses";
+    public static final String FEATURED_RESPONSES = "featuredResponses";
+
+    /**
+     * Response caches get their own short TTL, which bounds staleness from writes on other instances
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> responseCacheCustomizer(
+            @Value("${cache.responses.ttl:60s}") Duration ttl) {
+        return cacheManager -> {
+            for (String name : new String[]{REFERENCE_RESPONSES, FEATURED_RESPONSES}) {
+                cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                        .maximumSize(500)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .build());
+            }
+        };
+    }
+}
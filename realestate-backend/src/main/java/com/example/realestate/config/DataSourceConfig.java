@@ -0,0 +1,104 @@
+package com.example.realestate.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * One Hikari pool per workload class (write, interactive, analytics), each sized and timed
+ * out by spring.datasource.pools.&lt;name&gt;.* on top of the shared spring.datasource.hikari.*
+ * defaults. When spring.datasource.replica.url is set the two read pools connect to the replica.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public PoolMetrics poolMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PoolMetrics(meterRegistry.getIfAvailable());
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource writeDataSource(DataSourceProperties properties, Environment environment,
+                                            PoolMetrics poolMetrics) {
+        return createPool("write", properties.determineUrl(), properties.determineUsername(),
+                properties.determinePassword(), false, properties, environment, poolMetrics);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource interactiveDataSource(DataSourceProperties properties, Environment environment,
+                                                  PoolMetrics poolMetrics) {
+        return createReadPool("interactive", properties, environment, poolMetrics);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource analyticsDataSource(DataSourceProperties properties, Environment environment,
+                                                PoolMetrics poolMetrics) {
+        return createReadPool("analytics", properties, environment, poolMetrics);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource write,
+                                 @Qualifier("interactiveDataSource") DataSource interactive,
+                                 @Qualifier("analyticsDataSource") DataSource analytics,
+                                 @Value("${spring.datasource.replica.url:}") String replicaUrl,
+                                 @Value("${spring.datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow) {
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(!replicaUrl.isEmpty(), readYourWritesWindow);
+        routing.setTargetDataSources(Map.of(
+                WorkloadRoutingDataSource.Workload.WRITE, write,
+                WorkloadRoutingDataSource.Workload.INTERACTIVE, interactive,
+                WorkloadRoutingDataSource.Workload.ANALYTICS, analytics));
+        routing.setDefaultTargetDataSource(write);
+        routing.afterPropertiesSet();
+        // Defers the physical connection until the first statement, when the read-only flag is set
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private HikariDataSource createReadPool(String name, DataSourceProperties properties, Environment environment,
+                                            PoolMetrics poolMetrics) {
+        String replicaUrl = environment.getProperty("spring.datasource.replica.url", "");
+        if (replicaUrl.isEmpty()) {
+            return createPool(name, properties.determineUrl(), properties.determineUsername(),
+                    properties.determinePassword(), false, properties, environment, poolMetrics);
+        }
+        String username = environment.getProperty("spring.datasource.replica.username", "");
+        String password = environment.getProperty("spring.datasource.replica.password", "");
+        // A write that reaches the replica is a routing bug; fail it instead of diverging
+        return createPool(name, replicaUrl,
+                username.isEmpty() ? properties.determineUsername() : username,
+                password.isEmpty() ? properties.determinePassword() : password,
+                true, properties, environment, poolMetrics);
+    }
+
+    private static HikariDataSource createPool(String name, String url, String username, String password,
+                                               boolean readOnly, DataSourceProperties properties,
+                                               Environment environment, PoolMetrics poolMetrics) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(readOnly);
+
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        binder.bind("spring.datasource.pools." + name, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(name);
+        poolMetrics.register(dataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.realestate.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers match_against(title, description, address, amenities, query) for JPQL, rendered as
+ * MySQL MATCH ... AGAINST in natural language mode. The column list must match the
+ * ft_property_text FULLTEXT index exactly. Registered via META-INF/services.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match (?1, ?2, ?3, ?4) against (?5 in natural language mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
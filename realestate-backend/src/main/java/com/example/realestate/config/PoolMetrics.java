@@ -0,0 +1,122 @@
+package com.example.realestate.config;
+
+import com.example.realestate.util.LatencyHistogram;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-pool connection metrics: occupancy from Hikari plus acquire-time and usage-time
+ * histograms and a timeout count fed by Hikari's metrics tracker hook.
+ * With a MeterRegistry the same hook also feeds Hikari's own Micrometer tracker
+ * (hikaricp.connections.* tagged by pool), since a pool takes only one tracker factory.
+ */
+public class PoolMetrics implements MetricsTrackerFactory {
+
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+    private final MetricsTrackerFactory micrometer;
+
+    public PoolMetrics() {
+        this(null);
+    }
+
+    public PoolMetrics(MeterRegistry meterRegistry) {
+        this.micrometer = meterRegistry != null ? new MicrometerMetricsTrackerFactory(meterRegistry) : null;
+    }
+
+    public void register(HikariDataSource dataSource) {
+        dataSource.setMetricsTrackerFactory(this);
+        pools.put(dataSource.getPoolName(), dataSource);
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return trackers.computeIfAbsent(poolName,
+                name -> new Tracker(micrometer != null ? micrometer.create(poolName, poolStats) : null));
+    }
+
+    /**
+     * Active, idle, pending and acquire/usage percentiles (ms) per pool
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        pools.forEach((name, dataSource) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("maxSize", dataSource.getMaximumPoolSize());
+            entry.put("connectionTimeoutMs", dataSource.getConnectionTimeout());
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            // The pool starts on first use; until then it holds no connections
+            entry.put("active", pool != null ? pool.getActiveConnections() : 0);
+            entry.put("idle", pool != null ? pool.getIdleConnections() : 0);
+            entry.put("pending", pool != null ? pool.getThreadsAwaitingConnection() : 0);
+            Tracker tracker = trackers.get(name);
+            if (tracker != null) {
+                entry.put("timeouts", tracker.timeouts.get());
+                entry.put("acquireMs", tracker.acquire.snapshot());
+                entry.put("usageMs", tracker.usage.snapshot());
+            }
+            result.put(name, entry);
+        });
+        return result;
+    }
+
+    private static class Tracker implements IMetricsTracker {
+        private final LatencyHistogram acquire = new LatencyHistogram();
+        private final LatencyHistogram usage = new LatencyHistogram();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final IMetricsTracker delegate;
+
+        Tracker(IMetricsTracker delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            if (delegate != null) {
+                delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquire.record(elapsedAcquiredNanos);
+            if (delegate != null) {
+                delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            if (delegate != null) {
+                delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.incrementAndGet();
+            if (delegate != null) {
+                delegate.recordConnectionTimeout();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (delegate != null) {
+                delegate.close();
+            }
+        }
+    }
+}
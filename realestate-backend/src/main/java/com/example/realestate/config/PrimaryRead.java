@@ -0,0 +1,13 @@
+package com.example.realestate.config;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a method whose result fills a shared cache. On a cache miss it reads the primary
+ * database instead of the replica; see PrimaryReads.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PrimaryRead {
+}
@@ -0,0 +1,39 @@
+package com.example.realestate.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Sends @PrimaryRead calls to the primary. Runs inside the caching advice, so cache hits skip
+ * it, and outside the transactional advice, so the method joins the new read-only transaction.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class PrimaryReadAspect {
+
+    private final PrimaryReads primaryReads;
+
+    public PrimaryReadAspect(PrimaryReads primaryReads) {
+        this.primaryReads = primaryReads;
+    }
+
+    @Around("@annotation(com.example.realestate.config.PrimaryRead)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) {
+        return primaryReads.get(() -> {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.realestate.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs loads that populate a shared cache against the primary when a replica is configured.
+ * A load called from a read-only transaction, which may already hold a replica connection,
+ * gets its own read-only transaction on the write pool; a load inside a read-write
+ * transaction is already on the primary and just joins it. Without a replica loads run as-is.
+ */
+@Component
+public class PrimaryReads {
+
+    private final boolean readsOnReplica;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager, EntityManagerFactory entityManagerFactory,
+                        @Value("${spring.datasource.replica.url:}") String replicaUrl) {
+        this.readsOnReplica = !replicaUrl.isEmpty();
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T get(Supplier<T> load) {
+        if (!readsOnReplica || (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return load.get();
+        }
+        // Outside a transaction the open-in-view EntityManager may already hold a replica
+        // connection; set it aside so the load gets a session and connection of its own
+        Object viewEntityManager = TransactionSynchronizationManager.isActualTransactionActive()
+                ? null : TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+        boolean previous = WorkloadRoutingDataSource.enterPrimary();
+        try {
+            return transactionTemplate.execute(status -> load.get());
+        } finally {
+            WorkloadRoutingDataSource.exitPrimary(previous);
+            if (viewEntityManager != null) {
+                TransactionSynchronizationManager.bindResource(entityManagerFactory, viewEntityManager);
+            }
+        }
+    }
+}
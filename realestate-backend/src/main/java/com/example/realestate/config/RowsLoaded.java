@@ -0,0 +1,15 @@
+package com.example.realestate.config;
+
+import java.lang.annotation.*;
+
+/**
+ * Records how many rows the annotated method loads through repositories on each call,
+ * as the realestate.rows.loaded histogram tagged operation=value.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RowsLoaded {
+
+    String value();
+}
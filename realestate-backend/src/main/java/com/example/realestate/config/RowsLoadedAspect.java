@@ -0,0 +1,82 @@
+package com.example.realestate.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Sums the rows returned by repository calls made inside a @RowsLoaded method and records
+ * the total per call. A collection or page counts its elements, an Optional or single
+ * result counts one, and counts, flags and update results count nothing.
+ */
+@Aspect
+@Component
+public class RowsLoadedAspect {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public RowsLoadedAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(rowsLoaded)")
+    public Object measure(ProceedingJoinPoint joinPoint, RowsLoaded rowsLoaded) throws Throwable {
+        long[] outer = CURRENT.get();
+        long[] rows = new long[1];
+        CURRENT.set(rows);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            // A nested @RowsLoaded call still counts towards its caller
+            if (outer != null) {
+                outer[0] += rows[0];
+                CURRENT.set(outer);
+            } else {
+                CURRENT.remove();
+            }
+            DistributionSummary.builder("realestate.rows.loaded")
+                    .description("Rows loaded through repositories per call")
+                    .baseUnit("rows")
+                    .tag("operation", rowsLoaded.value())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue(100_000.0)
+                    .register(meterRegistry)
+                    .record(rows[0]);
+        }
+    }
+
+    @AfterReturning(pointcut = "execution(* org.springframework.data.repository.Repository+.*(..))", returning = "result")
+    public void countRows(Object result) {
+        long[] rows = CURRENT.get();
+        if (rows != null) {
+            rows[0] += rowCount(result);
+        }
+    }
+
+    private static long rowCount(Object result) {
+        if (result == null || result instanceof Number || result instanceof Boolean) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
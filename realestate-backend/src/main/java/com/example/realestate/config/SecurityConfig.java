@@ -1,5 +1,8 @@
 package com.example.realestate.config;
 
+import com.example.realestate.security.JwtAuthenticationFilter;
+import com.example.realestate.security.JwtTokenService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -8,6 +11,9 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
@@ -20,7 +26,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenService tokenService,
+                                                   @Value("${management.server.port:}") Integer managementPort) throws Exception {
         http
                 .cors(withDefaults())
                 .csrf(csrf -> csrf.disable())
@@ -30,14 +37,20 @@ public class SecurityConfig {
                         .requestMatchers("/api/properties/**").permitAll()
                         .requestMatchers("/api/areas/**").permitAll()
                         .requestMatchers("/api/users/**").permitAll()
-                        .requestMatchers("/api/deals/**").permitAll()
                         .requestMatchers("/api/property-types/**").permitAll()
+                        // Probes; only health and prometheus are exposed from the actuator
+                        .requestMatchers("/actuator/health").permitAll()
+                        // The scrape is open on the internal management port only; anywhere else it needs an admin
+                        .requestMatchers(onManagementPort(managementPort, "/actuator/prometheus")).permitAll()
+                        .requestMatchers("/actuator/prometheus").hasAuthority("ADMIN")
 
                         // ==================== ADMIN ONLY ENDPOINTS ====================
                         // ⭐ CRITICAL: Use hasAuthority() NOT hasRole()
                         // hasRole() adds "ROLE_" prefix, but our DB stores just "ADMIN"
                         .requestMatchers("/api/deals/admin/**").hasAuthority("ADMIN")
                         .requestMatchers("/api/deals/stage/**").hasAuthority("ADMIN")
+                        .requestMatchers("/api/deals/stats/**").hasAuthority("ADMIN")
+                        .requestMatchers("/api/admin/**").hasAuthority("ADMIN")
 
                         // ==================== AGENT ENDPOINTS ====================
                         .requestMatchers("/api/agents/**").authenticated()
@@ -49,8 +62,17 @@ public class SecurityConfig {
                         // ==================== DEFAULT: Everything else requires authentication ====================
                         .anyRequest().authenticated()
                 )
-                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // Bearer tokens are validated locally and become the request's Authentication
+                .addFilterBefore(new JwtAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
+
+    private static RequestMatcher onManagementPort(Integer managementPort, String path) {
+        RequestMatcher pathMatcher = new AntPathRequestMatcher(path);
+        return request -> managementPort != null
+                && request.getLocalPort() == managementPort
+                && pathMatcher.matches(request);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.realestate.config;
+
+/**
+ * Thrown in sql.budget.mode=fail when a request runs more SQL statements, entity loads or
+ * repeats of one statement than its budget allows
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.realestate.config;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Feeds the SQL statements Hibernate prepares and the entities it loads on the current thread
+ * into the open SqlStatementReport. Registered as the session factory's StatementInspector and
+ * Interceptor; work outside a begin/end window (startup, scheduled jobs) is not counted.
+ * Windows nest, and a finished window is added to the one around it.
+ * <p>
+ * Native queries run through Hibernate and are counted, but JdbcTemplate and plain JDBC
+ * bypass the inspector. Code on those paths reports each statement through countStatement().
+ */
+public class SqlStatementCounter implements StatementInspector, Interceptor {
+
+    private static final ThreadLocal<SqlStatementReport> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        countStatement(sql);
+        return sql;
+    }
+
+    /**
+     * Count a statement Hibernate never sees, e.g. one sent through JdbcTemplate
+     */
+    public static void countStatement(String sql) {
+        SqlStatementReport report = CURRENT.get();
+        if (report != null) {
+            report.statementPrepared(sql);
+        }
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        SqlStatementReport report = CURRENT.get();
+        if (report != null) {
+            report.entityLoaded(entity);
+        }
+        return false;
+    }
+
+    static SqlStatementReport begin(SqlStatementReport report) {
+        report.parent = CURRENT.get();
+        CURRENT.set(report);
+        return report;
+    }
+
+    static void end(SqlStatementReport report) {
+        SqlStatementReport parent = report.parent;
+        report.parent = null;
+        if (parent != null) {
+            parent.add(report);
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.realestate.config;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * SQL statements and entity loads seen on one thread during a measured window, with how often
+ * each distinct statement ran. The same prepared statement running many times in one window is
+ * the usual sign of an N+1 query. Tests open windows through StatementBudget.measure().
+ */
+public final class SqlStatementReport {
+
+    // Bounds memory on requests that build many distinct statements (e.g. varying IN lists)
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+    private static final int SQL_PREVIEW_LENGTH = 200;
+
+    private final int maxStatements;
+    private final int maxEntityLoads;
+    private final int maxRepeats;
+
+    private int statements;
+    private int entityLoads;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private final Map<String, Integer> entityLoadCounts = new HashMap<>();
+    SqlStatementReport parent;
+
+    SqlStatementReport() {
+        this(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * A window that throws SqlBudgetExceededException as soon as a limit is passed
+     */
+    SqlStatementReport(int maxStatements, int maxEntityLoads, int maxRepeats) {
+        this.maxStatements = maxStatements;
+        this.maxEntityLoads = maxEntityLoads;
+        this.maxRepeats = maxRepeats;
+    }
+
+    // ==================== RECORDING ====================
+
+    void statementPrepared(String sql) {
+        statements++;
+        Integer executions = statementCounts.get(sql);
+        if (executions != null || statementCounts.size() < MAX_DISTINCT_STATEMENTS) {
+            executions = executions == null ? 1 : executions + 1;
+            statementCounts.put(sql, executions);
+            if (executions > maxRepeats) {
+                throw new SqlBudgetExceededException("Statement ran " + executions + " times (budget "
+                        + maxRepeats + "): " + preview(sql));
+            }
+        }
+        if (statements > maxStatements) {
+            throw new SqlBudgetExceededException("Ran " + statements + " SQL statements (budget " + maxStatements + ")");
+        }
+    }
+
+    void entityLoaded(Object entity) {
+        entityLoads++;
+        entityLoadCounts.merge(entity.getClass().getSimpleName(), 1, Integer::sum);
+        if (entityLoads > maxEntityLoads) {
+            throw new SqlBudgetExceededException("Loaded " + entityLoads + " entities (budget " + maxEntityLoads + ")");
+        }
+    }
+
+    /**
+     * Folds a finished nested window into this one
+     */
+    void add(SqlStatementReport nested) {
+        statements += nested.statements;
+        entityLoads += nested.entityLoads;
+        nested.statementCounts.forEach((sql, executions) -> {
+            if (statementCounts.containsKey(sql) || statementCounts.size() < MAX_DISTINCT_STATEMENTS) {
+                statementCounts.merge(sql, executions, Integer::sum);
+            }
+        });
+        nested.entityLoadCounts.forEach((entity, loads) -> entityLoadCounts.merge(entity, loads, Integer::sum));
+    }
+
+    // ==================== RESULTS ====================
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    /**
+     * Statements that ran at least minExecutions times, most frequent first
+     */
+    public Map<String, Integer> getRepeatedStatements(int minExecutions) {
+        return statementCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minExecutions)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * Entity loads by entity class, most loaded first
+     */
+    public Map<String, Integer> getEntityLoadsByType() {
+        return entityLoadCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    public int getMaxRepeats() {
+        return statementCounts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * Totals, entity loads by type and the statements that ran more than once
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder()
+                .append(statements).append(" statements, ")
+                .append(entityLoads).append(" entity loads ").append(getEntityLoadsByType());
+        getRepeatedStatements(2).forEach((sql, executions) ->
+                text.append("\n  ").append(executions).append("x ").append(preview(sql)));
+        return text.toString();
+    }
+
+    static String preview(String sql) {
+        String flat = sql.replaceAll("\\s+", " ").trim();
+        return flat.length() > SQL_PREVIEW_LENGTH ? flat.substring(0, SQL_PREVIEW_LENGTH) + "..." : flat;
+    }
+}
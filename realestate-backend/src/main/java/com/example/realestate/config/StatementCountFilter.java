@@ -0,0 +1,115 @@
+package com.example.realestate.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the SQL statements and entity loads of each request as the
+ * http.server.requests.statements and http.server.requests.entity.loads histograms, tagged like
+ * http.server.requests with the method and the matched URI template.
+ * <p>
+ * Each request also has a budget: a statement count, an entity-load count, and how often one
+ * statement may repeat before it looks like an N+1 query. In LOG mode a request over budget is
+ * logged with its repeated statements once it finishes; in FAIL mode the statement that breaks
+ * the budget throws SqlBudgetExceededException, which is meant for development and CI.
+ * <p>
+ * Runs ahead of the Spring Security chain so statements from authentication count too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementCountFilter.class);
+
+    public enum BudgetMode { OFF, LOG, FAIL }
+
+    private final MeterRegistry meterRegistry;
+    private final BudgetMode mode;
+    private final int maxStatements;
+    private final int maxEntityLoads;
+    private final int maxRepeats;
+
+    public StatementCountFilter(MeterRegistry meterRegistry,
+                                @Value("${sql.budget.mode:log}") BudgetMode mode,
+                                @Value("${sql.budget.max-statements:30}") int maxStatements,
+                                @Value("${sql.budget.max-entity-loads:5000}") int maxEntityLoads,
+                                @Value("${sql.budget.max-repeats:10}") int maxRepeats) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        this.maxStatements = maxStatements;
+        this.maxEntityLoads = maxEntityLoads;
+        this.maxRepeats = maxRepeats;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementReport report = SqlStatementCounter.begin(mode == BudgetMode.FAIL
+                ? new SqlStatementReport(maxStatements, maxEntityLoads, maxRepeats)
+                : new SqlStatementReport());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.end(report);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            // Unmatched paths share one tag so a scan of random URLs cannot blow up the series count
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            record(request.getMethod(), uri, report);
+        }
+    }
+
+    private void record(String method, String uri, SqlStatementReport report) {
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(1_000.0)
+                .register(meterRegistry)
+                .record(report.getStatements());
+        DistributionSummary.builder("http.server.requests.entity.loads")
+                .description("Entities loaded per HTTP request")
+                .baseUnit("entities")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(100_000.0)
+                .register(meterRegistry)
+                .record(report.getEntityLoads());
+
+        if (mode == BudgetMode.OFF) {
+            return;
+        }
+        boolean overBudget = report.getStatements() > maxStatements
+                || report.getEntityLoads() > maxEntityLoads
+                || report.getMaxRepeats() > maxRepeats;
+        if (overBudget) {
+            Counter.builder("http.server.requests.sql.budget.exceeded")
+                    .description("Requests over their SQL statement, entity load or repeat budget")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("⚠️ SQL budget exceeded by {} {} (budget {} statements, {} entity loads, {} repeats): {}",
+                    method, uri, maxStatements, maxEntityLoads, maxRepeats, report);
+        }
+    }
+}
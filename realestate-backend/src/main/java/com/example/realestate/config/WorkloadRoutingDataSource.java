@@ -0,0 +1,123 @@
+package com.example.realestate.config;
+
+import com.example.realestate.security.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Picks a connection pool per transaction by workload class:
+ * read-write work goes to the WRITE pool, read-only work to the INTERACTIVE pool, and
+ * read-only work inside an @AnalyticsWorkload method to the ANALYTICS pool, so slow
+ * reports can never take the connections search needs.
+ * <p>
+ * When a replica is configured the read pools point at it. A user whose read-write
+ * transaction committed within the read-your-writes window is then kept on the WRITE pool,
+ * so replica lag never hides their own write (e.g. right after postProperty). Loads that fill a
+ * shared cache run inside PrimaryReads and also read the primary, because a replica that is
+ * still behind would otherwise keep an evicted entry stale until it expires.
+ * Must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known when the
+ * physical connection is fetched, and Hibernate must release the connection after each
+ * transaction (hibernate.connection.handling_mode) so the next one is routed afresh.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadRoutingDataSource.class);
+
+    public enum Workload { INTERACTIVE, WRITE, ANALYTICS }
+
+    private static final ThreadLocal<Boolean> ANALYTICS = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    // Bound for the rest of a read-write transaction once its after-commit marker is registered
+    private static final Object WRITE_MARKER_KEY = WorkloadRoutingDataSource.class.getName() + ".WRITE_MARKER";
+
+    private final boolean readsOnReplica;
+    private final Cache<Long, Boolean> recentWriters;
+
+    public WorkloadRoutingDataSource(boolean readsOnReplica, Duration readYourWritesWindow) {
+        this.readsOnReplica = readsOnReplica;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * Mark the current thread as running analytics work; returns the previous flag for restoring
+     */
+    static boolean enterAnalytics() {
+        boolean previous = Boolean.TRUE.equals(ANALYTICS.get());
+        ANALYTICS.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void exitAnalytics(boolean previous) {
+        if (previous) {
+            ANALYTICS.set(Boolean.TRUE);
+        } else {
+            ANALYTICS.remove();
+        }
+    }
+
+    /**
+     * Mark the current thread as reading for a shared cache; returns the previous flag for restoring
+     */
+    static boolean enterPrimary() {
+        boolean previous = Boolean.TRUE.equals(PRIMARY.get());
+        PRIMARY.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void exitPrimary(boolean previous) {
+        if (previous) {
+            PRIMARY.set(Boolean.TRUE);
+        } else {
+            PRIMARY.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = readsOnReplica ? currentUserId() : null;
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (readsOnReplica && Boolean.TRUE.equals(PRIMARY.get())) {
+                return Workload.WRITE;
+            }
+            if (userId != null && recentWriters.getIfPresent(userId) != null) {
+                logger.debug("Routing read-only transaction of user {} to the write pool (recent write)", userId);
+                return Workload.WRITE;
+            }
+            return Boolean.TRUE.equals(ANALYTICS.get()) ? Workload.ANALYTICS : Workload.INTERACTIVE;
+        }
+
+        if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(WRITE_MARKER_KEY)) {
+            TransactionSynchronizationManager.bindResource(WRITE_MARKER_KEY, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(userId, Boolean.TRUE);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER_KEY);
+                }
+            });
+        }
+        return Workload.WRITE;
+    }
+
+    private static Long currentUserId() {
+        AuthenticatedUser user = AuthenticatedUser.from(SecurityContextHolder.getContext().getAuthentication());
+        return user != null ? user.id() : null;
+    }
+}
@@ -1,9 +1,8 @@
 package com.example.realestate.controller;
 
 import com.example.realestate.dto.ApiResponse;
-import com.example.realestate.dto.PropertyDTO;
-import com.example.realestate.model.User;
-import com.example.realestate.repository.UserRepository;
+import com.example.realestate.dto.PropertySliceDTO;
+import com.example.realestate.security.AuthenticatedUser;
 import com.example.realestate.service.AgentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,7 +13,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -26,19 +24,15 @@ public class AgentController {
     @Autowired
     private AgentService agentService;
 
-    @Autowired
-    private UserRepository userRepository;
-
     @GetMapping("/{agentId}/dashboard")
     public ResponseEntity<?> getAgentDashboard(@PathVariable Long agentId, Authentication authentication) {
         logger.info("📊 Fetching dashboard for agent: {}", agentId);
         try {
-            User agent = userRepository.findById(agentId)
-                    .orElseThrow(() -> new RuntimeException("Agent not found"));
-
-            if (!agent.getRole().equals(User.UserRole.AGENT) && !agent.getRole().equals(User.UserRole.ADMIN)) {
+            // Agents see their own dashboard; admins may open any agent's
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (currentUser == null || !(currentUser.isAdmin() || (currentUser.isAgent() && currentUser.id().equals(agentId)))) {
                 return new ResponseEntity<>(
-                        ApiResponse.error("User is not an agent"),
+                        ApiResponse.error("Agents can only view their own dashboard"),
                         HttpStatus.FORBIDDEN
                 );
             }
@@ -56,23 +50,28 @@ public class AgentController {
     @GetMapping("/{agentId}/all-properties")
     public ResponseEntity<?> getAllPropertiesForAgent(
             @PathVariable Long agentId,
-            @RequestParam(defaultValue = "0") Integer page,
-            @RequestParam(defaultValue = "20") Integer size
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(required = false) Integer areaId,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) String listingType,
+            @RequestParam(required = false) String status,
+            Authentication authentication
     ) {
         logger.info("🏠 Fetching all properties for agent: {}", agentId);
         try {
-            User agent = userRepository.findById(agentId)
-                    .orElseThrow(() -> new RuntimeException("Agent not found"));
-
-            if (!agent.getRole().equals(User.UserRole.AGENT) && !agent.getRole().equals(User.UserRole.ADMIN)) {
+            // Agents see their own catalogue; admins may open any agent's
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (currentUser == null || !(currentUser.isAdmin() || (currentUser.isAgent() && currentUser.id().equals(agentId)))) {
                 return new ResponseEntity<>(
-                        ApiResponse.error("Unauthorized: User is not an agent"),
+                        ApiResponse.error("Agents can only view their own properties"),
                         HttpStatus.FORBIDDEN
                 );
             }
 
-            List<PropertyDTO> properties = agentService.getAllPropertiesForAgent(page, size);
-            return ResponseEntity.ok(ApiResponse.success(properties));
+            PropertySliceDTO slice = agentService.getAllPropertiesForAgent(cursor, size, areaId,
+                    propertyType, listingType, status);
+            return ResponseEntity.ok(ApiResponse.success(slice));
 
         } catch (Exception e) {
             logger.error("❌ Error fetching properties for agent: ", e);
@@ -81,10 +80,46 @@ public class AgentController {
         }
     }
 
+    @GetMapping("/{agentId}/all-properties/scroll")
+    public ResponseEntity<?> scrollAllPropertiesForAgent(
+            @PathVariable Long agentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            Authentication authentication
+    ) {
+        logger.info("🏠 Fetching properties slice for agent: {}", agentId);
+        try {
+            // Agents see their own catalogue; admins may open any agent's
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (currentUser == null || !(currentUser.isAdmin() || (currentUser.isAgent() && currentUser.id().equals(agentId)))) {
+                return new ResponseEntity<>(
+                        ApiResponse.error("Agents can only view their own properties"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
+
+            PropertySliceDTO slice = agentService.scrollAllPropertiesForAgent(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(slice));
+
+        } catch (Exception e) {
+            logger.error("❌ Error fetching properties slice for agent: ", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     @GetMapping("/{agentId}/stats")
-    public ResponseEntity<?> getAgentStats(@PathVariable Long agentId) {
+    public ResponseEntity<?> getAgentStats(@PathVariable Long agentId, Authentication authentication) {
         logger.info("📈 Fetching stats for agent: {}", agentId);
         try {
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (currentUser == null || !(currentUser.isAdmin() || (currentUser.isAgent() && currentUser.id().equals(agentId)))) {
+                return new ResponseEntity<>(
+                        ApiResponse.error("Agents can only view their own stats"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
+
             Map<String, Object> stats = agentService.getAgentStats(agentId);
             return ResponseEntity.ok(ApiResponse.success(stats));
 
@@ -1,13 +1,14 @@
 package com.example.realestate.controller;
 
+import com.example.realestate.config.CacheConfig;
 import com.example.realestate.dto.ApiResponse;
-import com.example.realestate.dto.AreaDTO;
 import com.example.realestate.service.AreaService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/areas")
@@ -15,18 +16,21 @@ public class AreaController {
 
     private static final Logger logger = LoggerFactory.getLogger(AreaController.class);
     private final AreaService areaService;
+    private final EtagResponseCache responseCache;
 
-    public AreaController(AreaService areaService) {
+    public AreaController(AreaService areaService, EtagResponseCache responseCache) {
         this.areaService = areaService;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<AreaDTO>>> getAreas(
-            @RequestParam(required = false, defaultValue = "Hyderabad") String city) {
+    public ResponseEntity<?> getAreas(
+            @RequestParam(required = false, defaultValue = "Hyderabad") String city,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Fetching areas for city: {}", city);
         try {
-            List<AreaDTO> areas = areaService.getAreasByCity(city);
-            return ResponseEntity.ok(ApiResponse.success(areas));
+            return responseCache.respond(CacheConfig.REFERENCE_RESPONSES, "areas:" + city.toLowerCase(Locale.ROOT),
+                    ifNoneMatch, () -> areaService.getAreasByCity(city));
         } catch (Exception e) {
             logger.error("Error fetching areas", e);
             return ResponseEntity.badRequest()
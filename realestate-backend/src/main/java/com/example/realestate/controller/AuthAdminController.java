@@ -0,0 +1,33 @@
+package com.example.realestate.controller;
+
+import com.example.realestate.dto.ApiResponse;
+import com.example.realestate.security.LoginAttemptService;
+import com.example.realestate.security.PasswordHashingService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/auth")
+public class AuthAdminController {
+
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptService loginAttemptService;
+
+    public AuthAdminController(PasswordHashingService passwordHashingService,
+                               LoginAttemptService loginAttemptService) {
+        this.passwordHashingService = passwordHashingService;
+        this.loginAttemptService = loginAttemptService;
+    }
+
+    /**
+     * Password-hashing pool occupancy, shed counts and hash-time percentiles
+     */
+    @GetMapping("/hashing")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getHashingStats() {
+        Map<String, Object> stats = passwordHashingService.getStats();
+        stats.put("trackedFailedLogins", loginAttemptService.trackedUsernames());
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+}
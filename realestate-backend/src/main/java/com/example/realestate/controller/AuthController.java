@@ -3,13 +3,18 @@ package com.example.realestate.controller;
 import com.example.realestate.model.User;
 import com.example.realestate.repository.UserRepository;
 import com.example.realestate.dto.ApiResponse;
+import com.example.realestate.security.AuthenticatedUser;
+import com.example.realestate.security.JwtTokenService;
+import com.example.realestate.security.LoginAttemptService;
+import com.example.realestate.security.PasswordHashingRejectedException;
+import com.example.realestate.security.PasswordHashingService;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -26,7 +31,13 @@ public class AuthController {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Autowired
+    private JwtTokenService tokenService;
 
     // DTOs
     static class LoginRequest {
@@ -58,11 +69,19 @@ public class AuthController {
     public ResponseEntity<?> login(@RequestBody LoginRequest request) {
         LOGGER.info("Login attempt for username: {}", request.getUsername());
 
+        // Repeated failures are refused before the user lookup and the password hash
+        if (loginAttemptService.isBlocked(request.getUsername())) {
+            LOGGER.warn("❌ Too many failed logins for username: {}", request.getUsername());
+            return tooManyRequests("Too many failed login attempts, please try again later",
+                    loginAttemptService.getLockout().toSeconds());
+        }
+
         try {
             Optional<User> userOptional = userRepository.findByUsername(request.getUsername());
 
             if (userOptional.isEmpty()) {
                 LOGGER.warn("❌ User not found: {}", request.getUsername());
+                loginAttemptService.recordFailure(request.getUsername());
                 return new ResponseEntity<>(
                         ApiResponse.error("Invalid username or password"),
                         HttpStatus.UNAUTHORIZED
@@ -79,14 +98,17 @@ public class AuthController {
                 );
             }
 
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
                 LOGGER.warn("❌ Invalid password for user: {}", request.getUsername());
+                loginAttemptService.recordFailure(request.getUsername());
                 return new ResponseEntity<>(
                         ApiResponse.error("Invalid username or password"),
                         HttpStatus.UNAUTHORIZED
                 );
             }
 
+            loginAttemptService.recordSuccess(request.getUsername());
+
             String token = generateJWT(user);
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Login successful!");
@@ -96,6 +118,9 @@ public class AuthController {
             LOGGER.info("✅ User logged in successfully: {}", user.getUsername());
             return ResponseEntity.ok(ApiResponse.success(response));
 
+        } catch (PasswordHashingRejectedException e) {
+            LOGGER.warn("❌ Login shed for {}: {}", request.getUsername(), e.getMessage());
+            return tooManyRequests(e.getMessage(), 1);
         } catch (Exception e) {
             LOGGER.error("❌ Login error: ", e);
             return new ResponseEntity<>(
@@ -139,7 +164,7 @@ public class AuthController {
             // Create new user
             User newUser = new User();
             newUser.setUsername(request.getUsername());
-            newUser.setPassword(passwordEncoder.encode(request.getPassword()));
+            newUser.setPassword(passwordHashingService.encode(request.getPassword()));
             newUser.setEmail(request.getEmail());
             newUser.setFirstName(request.getFirstName());
             newUser.setLastName(request.getLastName());
@@ -158,6 +183,9 @@ public class AuthController {
             LOGGER.info("✅ User registered successfully: {}", savedUser.getUsername());
             return new ResponseEntity<>(ApiResponse.success(response), HttpStatus.CREATED);
 
+        } catch (PasswordHashingRejectedException e) {
+            LOGGER.warn("❌ Registration shed for {}: {}", request.getUsername(), e.getMessage());
+            return tooManyRequests(e.getMessage(), 1);
         } catch (Exception e) {
             LOGGER.error("❌ Registration error: ", e);
             return new ResponseEntity<>(
@@ -181,8 +209,19 @@ public class AuthController {
             }
 
             String jwtToken = token.substring(7);
-            // In production, validate JWT signature and expiry
-            return ResponseEntity.ok(ApiResponse.success(Map.of("valid", true)));
+            AuthenticatedUser user = tokenService.parseToken(jwtToken);
+            if (user == null) {
+                return new ResponseEntity<>(
+                        ApiResponse.error("Invalid or expired token"),
+                        HttpStatus.UNAUTHORIZED
+                );
+            }
+
+            return ResponseEntity.ok(ApiResponse.success(Map.of(
+                    "valid", true,
+                    "userId", user.id(),
+                    "username", user.username(),
+                    "role", user.role().name())));
 
         } catch (Exception e) {
             LOGGER.error("❌ Token verification error: ", e);
@@ -195,7 +234,12 @@ public class AuthController {
 
     // ==================== HELPER METHODS ====================
     private String generateJWT(User user) {
-        // Simplified JWT - In production, use proper JWT library (jjwt)
-        return "jwt_" + user.getId() + "_" + System.currentTimeMillis();
+        return tokenService.generateToken(user);
+    }
+
+    private ResponseEntity<?> tooManyRequests(String message, long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.error(message));
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.example.realestate.controller;
+
+import com.example.realestate.dto.ApiResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+public class CacheAdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheAdminController.class);
+    private final CacheManager cacheManager;
+
+    public CacheAdminController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Size, hit/miss and eviction counts per reference-data cache
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Object>>>> getCacheStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                CacheStats stats = nativeCache.stats();
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("size", nativeCache.estimatedSize());
+                entry.put("hits", stats.hitCount());
+                entry.put("misses", stats.missCount());
+                entry.put("hitRate", stats.hitRate());
+                entry.put("evictions", stats.evictionCount());
+                result.put(name, entry);
+            }
+        }
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    /**
+     * Drop every entry of one cache
+     */
+    @DeleteMapping("/{name}")
+    public ResponseEntity<ApiResponse<String>> clearCache(@PathVariable String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Unknown cache: " + name));
+        }
+        cache.clear();
+        logger.info("🧹 Cleared cache {}", name);
+        return ResponseEntity.ok(ApiResponse.success("Cleared " + name));
+    }
+}
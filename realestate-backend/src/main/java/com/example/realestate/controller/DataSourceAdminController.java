@@ -0,0 +1,27 @@
+package com.example.realestate.controller;
+
+import com.example.realestate.config.PoolMetrics;
+import com.example.realestate.dto.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/datasources")
+public class DataSourceAdminController {
+
+    private final PoolMetrics poolMetrics;
+
+    public DataSourceAdminController(PoolMetrics poolMetrics) {
+        this.poolMetrics = poolMetrics;
+    }
+
+    /**
+     * Active, idle and pending connections plus acquire/usage percentiles per workload pool
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Object>>>> getPoolStats() {
+        return ResponseEntity.ok(ApiResponse.success(poolMetrics.snapshot()));
+    }
+}
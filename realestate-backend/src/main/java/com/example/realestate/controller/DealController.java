@@ -2,6 +2,8 @@ package com.example.realestate.controller;
 
 import com.example.realestate.model.DealStatus;
 import com.example.realestate.model.User;
+import com.example.realestate.security.AuthenticatedUser;
+import com.example.realestate.service.DealAnalyticsService;
 import com.example.realestate.service.DealService;
 import com.example.realestate.dto.*;
 import org.slf4j.Logger;
@@ -12,7 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,7 +27,7 @@ public class DealController {
     private DealService dealService;
 
     @Autowired
-    private com.example.realestate.repository.UserRepository userRepository;
+    private DealAnalyticsService dealAnalyticsService;
 
     // ==================== GET DEALS BY USER AND ROLE ====================
     @GetMapping("/user/{userId}/role/{userRole}")
@@ -44,12 +45,15 @@ public class DealController {
                         .body(ApiResponse.error("Valid user ID is required"));
             }
 
-            // Fetch user by ID
-            User currentUser = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.error("❌ User not found with ID: {}", userId);
-                        return new RuntimeException("User not found with ID: " + userId);
-                    });
+            // Users may only list their own deals unless they are admin
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (currentUser == null || (!currentUser.id().equals(userId) && !currentUser.isAdmin())) {
+                logger.warn("❌ Deals of user {} requested by another user", userId);
+                return new ResponseEntity<>(
+                        ApiResponse.error("You can only view your own deals"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
 
             // Validate role parameter
             if (!isValidRole(userRole)) {
@@ -79,32 +83,26 @@ public class DealController {
         logger.info("Creating deal with agreed price");
 
         try {
-            // Extract agent ID from request
-            if (request.getAgentId() == null || request.getAgentId() <= 0) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("Valid agent ID is required"));
-            }
-
-            // Fetch user by ID
-            User currentUser = userRepository.findById(request.getAgentId())
-                    .orElseThrow(() -> {
-                        logger.error("❌ User not found with ID: {}", request.getAgentId());
-                        return new RuntimeException("User not found with ID: " + request.getAgentId());
-                    });
-
             // Verify only AGENT can create deals
-            if (!currentUser.getRole().equals(User.UserRole.AGENT) &&
-                    !currentUser.getRole().equals(User.UserRole.ADMIN)) {
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (currentUser == null || (!currentUser.isAgent() && !currentUser.isAdmin())) {
                 logger.warn("❌ User {} attempted to create deal but is not an agent. Role: {}",
-                        currentUser.getId(), currentUser.getRole());
+                        currentUser != null ? currentUser.id() : null,
+                        currentUser != null ? currentUser.role() : null);
                 return new ResponseEntity<>(
                         ApiResponse.error("Only agents can create deals"),
                         HttpStatus.FORBIDDEN
                 );
             }
 
-            // Create deal with current authenticated agent
-            DealStatus deal = dealService.createDealWithPrice(request, currentUser.getId());
+            // Agents create deals as themselves; admins create them on behalf of the agent in the request
+            Long agentId = currentUser.isAgent() ? currentUser.id() : request.getAgentId();
+            if (agentId == null || agentId <= 0) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("Valid agent ID is required"));
+            }
+
+            DealStatus deal = dealService.createDealWithPrice(request, agentId);
 
             // Convert to detail DTO
             DealDetailDTO dealDTO = convertToDetailDTO(deal);
@@ -128,27 +126,21 @@ public class DealController {
     @GetMapping("/my-deals")
     public ResponseEntity<?> getMyDeals(
             @RequestParam String userRole,
-            @RequestParam Long userId,
+            @RequestParam(required = false) Long userId,
             Authentication authentication) {
 
-        logger.info("Fetching deals for user {} with role: {}", userId, userRole);
-
-        try {
-            // Validate userId
-            if (userId == null || userId <= 0) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("Valid user ID is required"));
-            }
-
-            // Fetch user by ID
-            User currentUser = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.error("❌ User not found with ID: {}", userId);
-                        return new RuntimeException("User not found with ID: " + userId);
-                    });
+        // The caller is identified by the token; userId is accepted for older clients but not trusted
+        AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+        if (currentUser == null) {
+            return new ResponseEntity<>(
+                    ApiResponse.error("Authentication required"),
+                    HttpStatus.UNAUTHORIZED
+            );
+        }
 
-            logger.debug("✅ Found user: {} with role: {}", currentUser.getId(), currentUser.getRole());
+        logger.info("Fetching deals for user {} with role: {}", currentUser.id(), userRole);
 
+        try {
             // Validate role parameter
             if (!isValidRole(userRole)) {
                 return ResponseEntity.badRequest()
@@ -156,9 +148,9 @@ public class DealController {
             }
 
             // Get deals by role
-            List<DealDetailDTO> deals = dealService.getDealsByRole(currentUser.getId(), userRole);
+            List<DealDetailDTO> deals = dealService.getDealsByRole(currentUser.id(), userRole);
 
-            logger.info("✅ Found {} deals for {} user {}", deals.size(), userRole, currentUser.getId());
+            logger.info("✅ Found {} deals for {} user {}", deals.size(), userRole, currentUser.id());
             return ResponseEntity.ok(ApiResponse.success(deals));
 
         } catch (Exception e) {
@@ -171,28 +163,14 @@ public class DealController {
     // ==================== ADMIN DASHBOARD ====================
     @GetMapping("/admin/dashboard")
     public ResponseEntity<?> getAdminDashboard(
-            @RequestParam Long userId,
             Authentication authentication) {
-        logger.info("Fetching admin dashboard for user {}", userId);
+        AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+        logger.info("Fetching admin dashboard for user {}", idOf(currentUser));
 
         try {
-            // Validate userId
-            if (userId == null || userId <= 0) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("Valid user ID is required"));
-            }
-
-            // Fetch user by ID
-            User currentUser = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.error("❌ User not found with ID: {}", userId);
-                        return new RuntimeException("User not found with ID: " + userId);
-                    });
-
-            // Verify ADMIN role only
-            if (!currentUser.getRole().equals(User.UserRole.ADMIN)) {
-                logger.warn("❌ User {} attempted to access admin dashboard but is not admin. Role: {}",
-                        userId, currentUser.getRole());
+            // Verify ADMIN role from the token principal
+            if (currentUser == null || !currentUser.isAdmin()) {
+                logger.warn("❌ User {} attempted to access admin dashboard but is not admin", idOf(currentUser));
                 return new ResponseEntity<>(
                         ApiResponse.error("Only admins can access this resource"),
                         HttpStatus.FORBIDDEN
@@ -213,34 +191,24 @@ public class DealController {
     // ==================== AGENT PERFORMANCE METRICS ====================
     @GetMapping("/admin/agents-performance")
     public ResponseEntity<?> getAgentPerformance(
-            @RequestParam Long userId,
+            @RequestParam(defaultValue = "false") boolean live,
             Authentication authentication) {
-        logger.info("Fetching agent performance metrics for user {}", userId);
+        AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+        logger.info("Fetching agent performance metrics for user {}", idOf(currentUser));
 
         try {
-            // Validate userId
-            if (userId == null || userId <= 0) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("Valid user ID is required"));
-            }
-
-            // Fetch user by ID
-            User currentUser = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.error("❌ User not found with ID: {}", userId);
-                        return new RuntimeException("User not found with ID: " + userId);
-                    });
-
-            // Verify ADMIN role only
-            if (!currentUser.getRole().equals(User.UserRole.ADMIN)) {
-                logger.warn("❌ User {} attempted to access performance metrics but is not admin", userId);
+            // Verify ADMIN role from the token principal
+            if (currentUser == null || !currentUser.isAdmin()) {
+                logger.warn("❌ User {} attempted to access performance metrics but is not admin", idOf(currentUser));
                 return new ResponseEntity<>(
                         ApiResponse.error("Only admins can access this resource"),
                         HttpStatus.FORBIDDEN
                 );
             }
 
-            List<AgentPerformanceDTO> performance = dealService.getAgentPerformanceMetrics();
+            List<AgentPerformanceDTO> performance = live
+                    ? dealService.getAgentPerformanceMetricsLive()
+                    : dealService.getAgentPerformanceMetrics();
             logger.info("✅ Agent performance metrics fetched for {} agents", performance.size());
             return ResponseEntity.ok(ApiResponse.success(performance));
 
@@ -251,32 +219,76 @@ public class DealController {
         }
     }
 
+    // ==================== REBUILD DEAL STATS (ADMIN) ====================
+    @PostMapping("/admin/stats/rebuild")
+    public ResponseEntity<?> rebuildDealStats(
+            Authentication authentication) {
+        AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+        logger.info("Rebuilding deal stats for user {}", idOf(currentUser));
+
+        try {
+            // Verify ADMIN role from the token principal
+            if (currentUser == null || !currentUser.isAdmin()) {
+                logger.warn("❌ User {} attempted to rebuild deal stats but is not admin", idOf(currentUser));
+                return new ResponseEntity<>(
+                        ApiResponse.error("Only admins can access this resource"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
+
+            dealService.rebuildDealStats();
+            logger.info("✅ Deal stats rebuilt");
+            return ResponseEntity.ok(ApiResponse.success(dealService.getDealCountsByStage()));
+
+        } catch (Exception e) {
+            logger.error("❌ Error rebuilding deal stats: ", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    // ==================== DEAL FUNNEL ANALYTICS (ADMIN) ====================
+    @GetMapping("/admin/analytics/funnel")
+    public ResponseEntity<?> getDealFunnel(
+            @RequestParam(defaultValue = "all") String dimension,
+            Authentication authentication) {
+        AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+        logger.info("Fetching deal funnel by {} for user {}", dimension, idOf(currentUser));
+
+        try {
+            // Verify ADMIN role from the token principal
+            if (currentUser == null || !currentUser.isAdmin()) {
+                logger.warn("❌ User {} attempted to access deal analytics but is not admin", idOf(currentUser));
+                return new ResponseEntity<>(
+                        ApiResponse.error("Only admins can access this resource"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
+
+            List<DealFunnelDTO> funnel = dealAnalyticsService.getFunnel(dimension);
+            logger.info("✅ Deal funnel calculated for {} groups", funnel.size());
+            return ResponseEntity.ok(ApiResponse.success(funnel));
+
+        } catch (Exception e) {
+            logger.error("❌ Error calculating deal funnel: ", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     // ==================== GET DEALS BY AGENT (ADMIN) ====================
     @GetMapping("/admin/agent/{agentId}")
     public ResponseEntity<?> getDealsByAgent(
             @PathVariable Long agentId,
-            @RequestParam Long userId,
             Authentication authentication) {
 
-        logger.info("Fetching deals for agent {} (Admin view) requested by user {}", agentId, userId);
+        AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+        logger.info("Fetching deals for agent {} (Admin view) requested by user {}", agentId, idOf(currentUser));
 
         try {
-            // Validate userId
-            if (userId == null || userId <= 0) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("Valid user ID is required"));
-            }
-
-            // Fetch user by ID
-            User currentUser = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.error("❌ User not found with ID: {}", userId);
-                        return new RuntimeException("User not found with ID: " + userId);
-                    });
-
-            // Verify ADMIN role only
-            if (!currentUser.getRole().equals(User.UserRole.ADMIN)) {
-                logger.warn("❌ User {} attempted to access agent deals but is not admin", userId);
+            // Verify ADMIN role from the token principal
+            if (currentUser == null || !currentUser.isAdmin()) {
+                logger.warn("❌ User {} attempted to access agent deals but is not admin", idOf(currentUser));
                 return new ResponseEntity<>(
                         ApiResponse.error("Only admins can access this resource"),
                         HttpStatus.FORBIDDEN
@@ -297,19 +309,37 @@ public class DealController {
     // ==================== EXISTING ENDPOINTS (KEPT) ====================
 
     @PostMapping("/create")
-    public ResponseEntity<?> createDeal(@RequestBody CreateDealRequest request) {
+    public ResponseEntity<?> createDeal(@RequestBody CreateDealRequest request, Authentication authentication) {
         logger.info("Creating new deal");
 
         try {
-            if (request.propertyId == null || request.buyerId == null) {
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (currentUser == null) {
+                return new ResponseEntity<>(
+                        ApiResponse.error("Authentication required"),
+                        HttpStatus.UNAUTHORIZED
+                );
+            }
+
+            // The caller's own side of the deal comes from the token: agents open deals as the agent,
+            // users as the buyer. Only admins may name both parties
+            Long buyerId = request.buyerId;
+            Long agentId = request.agentId;
+            if (currentUser.isAgent()) {
+                agentId = currentUser.id();
+            } else if (!currentUser.isAdmin()) {
+                buyerId = currentUser.id();
+            }
+
+            if (request.propertyId == null || buyerId == null) {
                 return ResponseEntity.badRequest()
                         .body(ApiResponse.error("Property ID and Buyer ID are required"));
             }
 
             DealStatus deal = dealService.createDeal(
                     request.propertyId,
-                    request.buyerId,
-                    request.agentId
+                    buyerId,
+                    agentId
             );
 
             DealDTO dealDTO = convertToDTO(deal);
@@ -325,11 +355,21 @@ public class DealController {
     }
 
     @GetMapping("/{dealId}")
-    public ResponseEntity<?> getDeal(@PathVariable Long dealId) {
+    public ResponseEntity<?> getDeal(@PathVariable Long dealId, Authentication authentication) {
         logger.info("Fetching deal: {}", dealId);
 
         try {
             DealStatus deal = dealService.getDealById(dealId);
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (!isParticipant(deal, currentUser)) {
+                logger.warn("❌ User {} attempted to view deal {} they are not part of",
+                        currentUser != null ? currentUser.id() : null, dealId);
+                return new ResponseEntity<>(
+                        ApiResponse.error("You can only view deals you are part of"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
+
             DealDTO dealDTO = convertToDTO(deal);
             return ResponseEntity.ok(ApiResponse.success(dealDTO));
 
@@ -339,6 +379,35 @@ public class DealController {
         }
     }
 
+    @GetMapping("/{dealId}/events")
+    public ResponseEntity<?> getDealEvents(
+            @PathVariable Long dealId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        logger.info("Fetching events for deal: {} (page {}, size {})", dealId, page, size);
+
+        try {
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (!isParticipant(dealService.getDealById(dealId), currentUser)) {
+                logger.warn("❌ User {} attempted to view events of deal {} they are not part of",
+                        currentUser != null ? currentUser.id() : null, dealId);
+                return new ResponseEntity<>(
+                        ApiResponse.error("You can only view deals you are part of"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
+
+            List<DealStageEventDTO> events = dealService.getDealEvents(dealId, page, size);
+            return ResponseEntity.ok(ApiResponse.success(events));
+
+        } catch (Exception e) {
+            logger.error("❌ Error fetching deal events: ", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     @PutMapping("/{dealId}/stage")
     public ResponseEntity<?> updateDealStage(
             @PathVariable Long dealId,
@@ -348,7 +417,18 @@ public class DealController {
         logger.info("Updating deal stage - DealId: {}, NewStage: {}", dealId, request.stage);
 
         try {
-            String username = authentication != null ? authentication.getName() : "system";
+            // Only the deal's agent (or an admin) moves it through the stages
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            DealStatus existing = dealService.getDealById(dealId);
+            if (currentUser == null || !(currentUser.isAdmin() || isDealAgent(existing, currentUser))) {
+                logger.warn("❌ User {} attempted to change the stage of deal {} without being its agent",
+                        currentUser != null ? currentUser.id() : null, dealId);
+                return new ResponseEntity<>(
+                        ApiResponse.error("Only the deal's agent or an admin can change its stage"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
+            String username = currentUser.username();
 
             DealStatus.DealStage stage = DealStatus.DealStage.valueOf(request.stage.toUpperCase());
 
@@ -375,10 +455,19 @@ public class DealController {
     }
 
     @GetMapping("/agent/{agentId}")
-    public ResponseEntity<?> getAgentDeals(@PathVariable Long agentId) {
+    public ResponseEntity<?> getAgentDeals(@PathVariable Long agentId, Authentication authentication) {
         logger.info("Fetching all deals for agent: {}", agentId);
 
         try {
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (!isSelfOrAdmin(currentUser, agentId)) {
+                logger.warn("❌ Deals of agent {} requested by another user", agentId);
+                return new ResponseEntity<>(
+                        ApiResponse.error("You can only view your own deals"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
+
             List<DealStatus> deals = dealService.getDealsForAgent(agentId);
             List<DealDTO> dealDTOs = deals.stream()
                     .map(this::convertToDTO)
@@ -397,28 +486,15 @@ public class DealController {
     @GetMapping("/stage/{stage}")
     public ResponseEntity<?> getDealsByStage(
             @PathVariable String stage,
-            @RequestParam Long userId,
             Authentication authentication) {
 
-        logger.info("Fetching deals by stage: {} (Admin) for user {}", stage, userId);
+        AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+        logger.info("Fetching deals by stage: {} (Admin) for user {}", stage, idOf(currentUser));
 
         try {
-            // Validate userId
-            if (userId == null || userId <= 0) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("Valid user ID is required"));
-            }
-
-            // Fetch user by ID
-            User currentUser = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.error("❌ User not found with ID: {}", userId);
-                        return new RuntimeException("User not found with ID: " + userId);
-                    });
-
-            // Verify ADMIN role only
-            if (!currentUser.getRole().equals(User.UserRole.ADMIN)) {
-                logger.warn("❌ User {} attempted to access stage deals but is not admin", userId);
+            // Verify ADMIN role from the token principal
+            if (currentUser == null || !currentUser.isAdmin()) {
+                logger.warn("❌ User {} attempted to access stage deals but is not admin", idOf(currentUser));
                 return new ResponseEntity<>(
                         ApiResponse.error("Only admins can access this resource"),
                         HttpStatus.FORBIDDEN
@@ -454,27 +530,14 @@ public class DealController {
     // ==================== GET STATS BY STAGE (ADMIN) ====================
     @GetMapping("/stats/by-stage")
     public ResponseEntity<?> getStatsByStage(
-            @RequestParam Long userId,
             Authentication authentication) {
-        logger.info("Fetching deal stats by stage (Admin) for user {}", userId);
+        AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+        logger.info("Fetching deal stats by stage (Admin) for user {}", idOf(currentUser));
 
         try {
-            // Validate userId
-            if (userId == null || userId <= 0) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("Valid user ID is required"));
-            }
-
-            // Fetch user by ID
-            User currentUser = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        logger.error("❌ User not found with ID: {}", userId);
-                        return new RuntimeException("User not found with ID: " + userId);
-                    });
-
-            // Verify ADMIN role only
-            if (!currentUser.getRole().equals(User.UserRole.ADMIN)) {
-                logger.warn("❌ User {} attempted to access stats but is not admin", userId);
+            // Verify ADMIN role from the token principal
+            if (currentUser == null || !currentUser.isAdmin()) {
+                logger.warn("❌ User {} attempted to access stats but is not admin", idOf(currentUser));
                 return new ResponseEntity<>(
                         ApiResponse.error("Only admins can access this resource"),
                         HttpStatus.FORBIDDEN
@@ -482,11 +545,7 @@ public class DealController {
             }
 
             // Get stats by stage
-            Map<String, Long> statsByStage = new HashMap<>();
-            for (DealStatus.DealStage stage : DealStatus.DealStage.values()) {
-                Long count = dealService.getCountByStage(stage);
-                statsByStage.put(stage.name(), count);
-            }
+            Map<String, Long> statsByStage = dealService.getDealCountsByStage();
 
             logger.info("✅ Stats by stage calculated");
             return ResponseEntity.ok(ApiResponse.success(statsByStage));
@@ -499,11 +558,26 @@ public class DealController {
     }
 
     @GetMapping("/buyer/{buyerId}")
-    public ResponseEntity<?> getBuyerDeals(@PathVariable Long buyerId) {
+    public ResponseEntity<?> getBuyerDeals(@PathVariable Long buyerId, Authentication authentication) {
         logger.info("Fetching deals for buyer: {}", buyerId);
 
         try {
+            // Agents may look up a buyer, but only see the deals they are the agent on
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (!isSelfOrAdmin(currentUser, buyerId) && (currentUser == null || !currentUser.isAgent())) {
+                logger.warn("❌ Deals of buyer {} requested by another user", buyerId);
+                return new ResponseEntity<>(
+                        ApiResponse.error("You can only view your own deals"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
+
             List<DealStatus> deals = dealService.getBuyerDeals(buyerId);
+            if (!isSelfOrAdmin(currentUser, buyerId)) {
+                deals = deals.stream()
+                        .filter(deal -> isDealAgent(deal, currentUser))
+                        .collect(java.util.stream.Collectors.toList());
+            }
             List<DealDTO> dealDTOs = deals.stream()
                     .map(this::convertToDTO)
                     .collect(java.util.stream.Collectors.toList());
@@ -517,6 +591,34 @@ public class DealController {
         }
     }
 
+    @GetMapping("/seller/{sellerId}")
+    public ResponseEntity<?> getSellerDeals(
+            @PathVariable Long sellerId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        logger.info("Fetching deals for seller: {} (page {}, size {})", sellerId, page, size);
+
+        try {
+            AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+            if (!isSelfOrAdmin(currentUser, sellerId)) {
+                logger.warn("❌ Deals of seller {} requested by another user", sellerId);
+                return new ResponseEntity<>(
+                        ApiResponse.error("You can only view your own deals"),
+                        HttpStatus.FORBIDDEN
+                );
+            }
+
+            List<DealDetailDTO> deals = dealService.getSellerDeals(sellerId, page, size);
+            return ResponseEntity.ok(ApiResponse.success(deals));
+
+        } catch (Exception e) {
+            logger.error("❌ Error fetching seller deals: ", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     // ==================== HELPER METHODS ====================
 
     private boolean isValidRole(String role) {
@@ -527,6 +629,35 @@ public class DealController {
                         role.equalsIgnoreCase("ADMIN"));
     }
 
+    private static Long idOf(AuthenticatedUser user) {
+        return user != null ? user.id() : null;
+    }
+
+    private boolean isSelfOrAdmin(AuthenticatedUser user, Long userId) {
+        return user != null && (user.isAdmin() || user.id().equals(userId));
+    }
+
+    private boolean isDealAgent(DealStatus deal, AuthenticatedUser user) {
+        return deal.getAgent() != null && user.id().equals(deal.getAgent().getId());
+    }
+
+    /**
+     * The deal's buyer, seller (property owner) or agent, or an admin
+     */
+    private boolean isParticipant(DealStatus deal, AuthenticatedUser user) {
+        if (user == null) {
+            return false;
+        }
+        if (user.isAdmin() || isDealAgent(deal, user)) {
+            return true;
+        }
+        if (deal.getBuyer() != null && user.id().equals(deal.getBuyer().getId())) {
+            return true;
+        }
+        return deal.getProperty() != null && deal.getProperty().getUser() != null
+                && user.id().equals(deal.getProperty().getUser().getId());
+    }
+
     private DealDetailDTO convertToDetailDTO(DealStatus deal) {
         DealDetailDTO dto = new DealDetailDTO();
 
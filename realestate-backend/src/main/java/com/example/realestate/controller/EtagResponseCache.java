@@ -0,0 +1,85 @@
+package com.example.realestate.controller;
+
+import com.example.realestate.config.PrimaryReads;
+import com.example.realestate.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Serves hot GET endpoints from serialized ApiResponse bytes kept in a Spring cache, with a
+ * strong ETag derived from the bytes. A matching If-None-Match gets 304 and no body.
+ * Entries are dropped by @CacheEvict on the service writes that change the data, and refilled
+ * from the primary so a lagging replica cannot put the old data back.
+ */
+@Component
+public class EtagResponseCache {
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final PrimaryReads primaryReads;
+
+    public EtagResponseCache(CacheManager cacheManager, ObjectMapper objectMapper, PrimaryReads primaryReads) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.primaryReads = primaryReads;
+    }
+
+    public ResponseEntity<byte[]> respond(String cacheName, String key, String ifNoneMatch, Supplier<?> data) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Unknown response cache: " + cacheName);
+        }
+        CachedResponse response = cache.get(key, () -> serialize(ApiResponse.success(primaryReads.get(data))));
+
+        // Clients must revalidate, which is cheap: a hit never touches the database
+        if (matches(ifNoneMatch, response.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(response.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
+    }
+
+    private CachedResponse serialize(Object body) throws JsonProcessingException, NoSuchAlgorithmException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+        return new CachedResponse(bytes, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+    }
+
+    // If-None-Match uses the weak comparison, so a W/ prefix added by a proxy still matches
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record CachedResponse(byte[] body, String etag) {
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.realestate.controller;
 
+import com.example.realestate.config.CacheConfig;
 import com.example.realestate.dto.ApiResponse;
 import com.example.realestate.dto.PropertyDTO;
 import com.example.realestate.dto.PropertySearchRequest;
+import com.example.realestate.dto.PropertySearchResultDTO;
+import com.example.realestate.dto.PropertySliceDTO;
 import com.example.realestate.service.PropertySearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -16,9 +20,11 @@ public class PropertySearchController {
 
     private static final Logger logger = LoggerFactory.getLogger(PropertySearchController.class);
     private final PropertySearchService propertySearchService;
+    private final EtagResponseCache responseCache;
 
-    public PropertySearchController(PropertySearchService propertySearchService) {
+    public PropertySearchController(PropertySearchService propertySearchService, EtagResponseCache responseCache) {
         this.propertySearchService = propertySearchService;
+        this.responseCache = responseCache;
     }
 
     @PostMapping("/search")
@@ -35,12 +41,56 @@ public class PropertySearchController {
         }
     }
 
+    @PostMapping("/search/faceted")
+    public ResponseEntity<ApiResponse<PropertySearchResultDTO>> searchPropertiesWithFacets(
+            @RequestBody PropertySearchRequest request) {
+        logger.info("Faceted search request received: {}", request);
+        try {
+            PropertySearchResultDTO result = propertySearchService.searchPropertiesWithFacets(request);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (Exception e) {
+            logger.error("Error searching properties with facets", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Error searching properties: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/search/scroll")
+    public ResponseEntity<ApiResponse<PropertySliceDTO>> scrollProperties(
+            @RequestBody PropertySearchRequest request) {
+        logger.info("Cursor search request received: {}", request);
+        try {
+            PropertySliceDTO result = propertySearchService.scrollProperties(request);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (Exception e) {
+            logger.error("Error scrolling properties", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Error searching properties: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<PropertySliceDTO>> getActiveFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size) {
+        logger.info("Fetching property feed (size: {})", size);
+        try {
+            PropertySliceDTO result = propertySearchService.getActiveFeed(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (Exception e) {
+            logger.error("Error fetching property feed", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Error fetching property feed: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/featured")
-    public ResponseEntity<ApiResponse<List<PropertyDTO>>> getFeaturedProperties() {
+    public ResponseEntity<?> getFeaturedProperties(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Fetching featured properties");
         try {
-            List<PropertyDTO> properties = propertySearchService.getFeaturedProperties();
-            return ResponseEntity.ok(ApiResponse.success(properties));
+            return responseCache.respond(CacheConfig.FEATURED_RESPONSES, "featured",
+                    ifNoneMatch, propertySearchService::getFeaturedProperties);
         } catch (Exception e) {
             logger.error("Error fetching featured properties", e);
             return ResponseEntity.badRequest()
@@ -1,13 +1,13 @@
 package com.example.realestate.controller;
 
+import com.example.realestate.config.CacheConfig;
 import com.example.realestate.dto.ApiResponse;
-import com.example.realestate.model.PropertyType;
 import com.example.realestate.service.PropertyTypeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/property-types")
@@ -15,17 +15,20 @@ public class PropertyTypeController {
 
     private static final Logger logger = LoggerFactory.getLogger(PropertyTypeController.class);
     private final PropertyTypeService propertyTypeService;
+    private final EtagResponseCache responseCache;
 
-    public PropertyTypeController(PropertyTypeService propertyTypeService) {
+    public PropertyTypeController(PropertyTypeService propertyTypeService, EtagResponseCache responseCache) {
         this.propertyTypeService = propertyTypeService;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PropertyType>>> getAllPropertyTypes() {
+    public ResponseEntity<?> getAllPropertyTypes(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Fetching all property types");
         try {
-            List<PropertyType> propertyTypes = propertyTypeService.getAllPropertyTypes();
-            return ResponseEntity.ok(ApiResponse.success(propertyTypes));
+            return responseCache.respond(CacheConfig.REFERENCE_RESPONSES, "propertyTypes",
+                    ifNoneMatch, propertyTypeService::getAllPropertyTypes);
         } catch (Exception e) {
             logger.error("Error fetching property types", e);
             return ResponseEntity.badRequest()
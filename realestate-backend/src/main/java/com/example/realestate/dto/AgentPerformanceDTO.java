@@ -1,6 +1,7 @@
 package com.example.realestate.dto;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 public class AgentPerformanceDTO {
     private Long agentId;
@@ -12,6 +13,7 @@ public class AgentPerformanceDTO {
     private Long completedDeals;
     private String conversionRate; // Format: "75.50%"
     private BigDecimal averageDealPrice;
+    private BigDecimal totalAgreedPrice; // Sum of agreed prices over all of the agent's deals
     private Long inquiryCount;
     private Long shortlistCount;
     private Long negotiationCount;
@@ -37,6 +39,38 @@ public class AgentPerformanceDTO {
         this.averageDealPrice = averageDealPrice;
     }
 
+    /**
+     * Aggregate projection: one row per agent with per-stage counts and the agreed-price sum.
+     * Counts arrive null for an agent without deals; rate and average are derived here.
+     */
+    public AgentPerformanceDTO(Long agentId, String firstName, String lastName, String agentEmail,
+                               String agentMobile, Long totalDeals, Long inquiryCount, Long shortlistCount,
+                               Long negotiationCount, Long agreementCount, Long registrationCount,
+                               Long paymentCount, Long completedCount, BigDecimal agreedPriceSum) {
+        long total = totalDeals != null ? totalDeals : 0L;
+        long completed = completedCount != null ? completedCount : 0L;
+
+        this.agentId = agentId;
+        this.agentName = firstName + " " + lastName;
+        this.agentEmail = agentEmail;
+        this.agentMobile = agentMobile;
+        this.totalDeals = total;
+        this.activeDeals = total - completed;
+        this.completedDeals = completed;
+        this.conversionRate = total > 0 ? String.format("%.2f%%", ((double) completed / total) * 100) : "0%";
+        // Average over all deals, priceless deals included
+        this.averageDealPrice = total > 0 && agreedPriceSum != null
+                ? agreedPriceSum.divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        this.totalAgreedPrice = agreedPriceSum != null ? agreedPriceSum : BigDecimal.ZERO;
+        this.inquiryCount = inquiryCount != null ? inquiryCount : 0L;
+        this.shortlistCount = shortlistCount != null ? shortlistCount : 0L;
+        this.negotiationCount = negotiationCount != null ? negotiationCount : 0L;
+        this.agreementCount = agreementCount != null ? agreementCount : 0L;
+        this.registrationCount = registrationCount != null ? registrationCount : 0L;
+        this.paymentCount = paymentCount != null ? paymentCount : 0L;
+    }
+
     // Getters and Setters
     public Long getAgentId() { return agentId; }
     public void setAgentId(Long agentId) { this.agentId = agentId; }
@@ -65,6 +99,9 @@ public class AgentPerformanceDTO {
     public BigDecimal getAverageDealPrice() { return averageDealPrice; }
     public void setAverageDealPrice(BigDecimal averageDealPrice) { this.averageDealPrice = averageDealPrice; }
 
+    public BigDecimal getTotalAgreedPrice() { return totalAgreedPrice; }
+    public void setTotalAgreedPrice(BigDecimal totalAgreedPrice) { this.totalAgreedPrice = totalAgreedPrice; }
+
     public Long getInquiryCount() { return inquiryCount; }
     public void setInquiryCount(Long inquiryCount) { this.inquiryCount = inquiryCount; }
 
@@ -0,0 +1,77 @@
+package com.example.realestate.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Funnel and time-in-stage metrics for one group of deals (an agent, a city, a property type, or all deals).
+ * Durations are in hours; median and p90 are null when no deal has left the stage yet.
+ */
+public class DealFunnelDTO {
+    private String dimension;
+    private String groupKey;
+    private Long totalDeals;
+    private List<StageMetrics> stages = new ArrayList<>();
+
+    // Constructors
+    public DealFunnelDTO() {}
+
+    public DealFunnelDTO(String dimension, String groupKey, Long totalDeals) {
+        this.dimension = dimension;
+        this.groupKey = groupKey;
+        this.totalDeals = totalDeals;
+    }
+
+    // ==================== STAGE METRICS ====================
+    public static class StageMetrics {
+        private String stage;
+        private Long reachedCount;        // deals that got at least this far
+        private Double conversionToNext;  // % of reachedCount that reached the next stage
+        private Long exitedCount;         // deals with a measured time in this stage
+        private Double medianHours;
+        private Double p90Hours;
+
+        public StageMetrics() {}
+
+        public StageMetrics(String stage, Long reachedCount, Double conversionToNext,
+                            Long exitedCount, Double medianHours, Double p90Hours) {
+            this.stage = stage;
+            this.reachedCount = reachedCount;
+            this.conversionToNext = conversionToNext;
+            this.exitedCount = exitedCount;
+            this.medianHours = medianHours;
+            this.p90Hours = p90Hours;
+        }
+
+        public String getStage() { return stage; }
+        public void setStage(String stage) { this.stage = stage; }
+
+        public Long getReachedCount() { return reachedCount; }
+        public void setReachedCount(Long reachedCount) { this.reachedCount = reachedCount; }
+
+        public Double getConversionToNext() { return conversionToNext; }
+        public void setConversionToNext(Double conversionToNext) { this.conversionToNext = conversionToNext; }
+
+        public Long getExitedCount() { return exitedCount; }
+        public void setExitedCount(Long exitedCount) { this.exitedCount = exitedCount; }
+
+        public Double getMedianHours() { return medianHours; }
+        public void setMedianHours(Double medianHours) { this.medianHours = medianHours; }
+
+        public Double getP90Hours() { return p90Hours; }
+        public void setP90Hours(Double p90Hours) { this.p90Hours = p90Hours; }
+    }
+
+    // Getters and Setters
+    public String getDimension() { return dimension; }
+    public void setDimension(String dimension) { this.dimension = dimension; }
+
+    public String getGroupKey() { return groupKey; }
+    public void setGroupKey(String groupKey) { this.groupKey = groupKey; }
+
+    public Long getTotalDeals() { return totalDeals; }
+    public void setTotalDeals(Long totalDeals) { this.totalDeals = totalDeals; }
+
+    public List<StageMetrics> getStages() { return stages; }
+    public void setStages(List<StageMetrics> stages) { this.stages = stages; }
+}
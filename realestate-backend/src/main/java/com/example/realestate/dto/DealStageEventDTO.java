@@ -0,0 +1,46 @@
+package com.example.realestate.dto;
+
+import com.example.realestate.model.DealStatus;
+
+import java.time.LocalDateTime;
+
+public class DealStageEventDTO {
+    private Long eventId;
+    private String fromStage;
+    private String toStage;
+    private String note;
+    private String author;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public DealStageEventDTO() {}
+
+    public DealStageEventDTO(Long eventId, DealStatus.DealStage fromStage, DealStatus.DealStage toStage,
+                             String note, String author, LocalDateTime createdAt) {
+        this.eventId = eventId;
+        this.fromStage = fromStage != null ? fromStage.name() : null;
+        this.toStage = toStage != null ? toStage.name() : null;
+        this.note = note;
+        this.author = author;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public String getFromStage() { return fromStage; }
+    public void setFromStage(String fromStage) { this.fromStage = fromStage; }
+
+    public String getToStage() { return toStage; }
+    public void setToStage(String toStage) { this.toStage = toStage; }
+
+    public String getNote() { return note; }
+    public void setNote(String note) { this.note = note; }
+
+    public String getAuthor() { return author; }
+    public void setAuthor(String author) { this.author = author; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
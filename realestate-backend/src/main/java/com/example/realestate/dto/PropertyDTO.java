@@ -17,6 +17,7 @@ public class PropertyDTO {
     private String status;
     private String listingType;
     private String imageUrl;
+    private String primaryImageUrl;
     private String amenities;
     private Boolean isFeatured;
     private String areaName;
@@ -32,6 +33,82 @@ public class PropertyDTO {
     // ⭐ NEW: User information
     private UserDTO user;
 
+    // Constructors
+    public PropertyDTO() {}
+
+    /**
+     * Flat constructor used by the JPQL constructor projections in PropertyRepository
+     * (SELECT new ...PropertyDTO(...)), owner columns are folded into the nested UserDTO
+     */
+    public PropertyDTO(Long propertyId, String propertyType, String title, String description,
+                       BigDecimal price, BigDecimal areaSqft, Integer bedrooms, Integer bathrooms,
+                       Integer balconies, String address, String status, String listingType,
+                       String imageUrl, String amenities, Boolean isFeatured, String areaName,
+                       String pincode, String cityName, String state, LocalDateTime createdAt,
+                       String priceDisplay, Boolean isReadyToMove, String ownerType, Boolean isVerified,
+                       Long userId, String userFirstName, String userLastName, String userEmail,
+                       String userMobileNumber) {
+        this.propertyId = propertyId;
+        this.propertyType = propertyType;
+        this.title = title;
+        this.description = description;
+        this.price = price;
+        this.areaSqft = areaSqft;
+        this.bedrooms = bedrooms;
+        this.bathrooms = bathrooms;
+        this.balconies = balconies;
+        this.address = address;
+        this.status = status;
+        this.listingType = listingType;
+        this.imageUrl = imageUrl;
+        this.amenities = amenities;
+        this.isFeatured = isFeatured;
+        this.areaName = areaName;
+        this.pincode = pincode;
+        this.cityName = cityName;
+        this.state = state;
+        this.createdAt = createdAt;
+        this.priceDisplay = priceDisplay;
+        this.isReadyToMove = isReadyToMove;
+        this.ownerType = ownerType;
+        this.isVerified = isVerified;
+        if (userId != null) {
+            this.user = new UserDTO(userId, userFirstName, userLastName, userEmail, userMobileNumber);
+        }
+    }
+
+    /**
+     * Shallow copy, for decorating a DTO that may be shared (e.g. held by the search index)
+     */
+    public PropertyDTO(PropertyDTO other) {
+        this.propertyId = other.propertyId;
+        this.propertyType = other.propertyType;
+        this.title = other.title;
+        this.description = other.description;
+        this.price = other.price;
+        this.areaSqft = other.areaSqft;
+        this.bedrooms = other.bedrooms;
+        this.bathrooms = other.bathrooms;
+        this.balconies = other.balconies;
+        this.address = other.address;
+        this.status = other.status;
+        this.listingType = other.listingType;
+        this.imageUrl = other.imageUrl;
+        this.primaryImageUrl = other.primaryImageUrl;
+        this.amenities = other.amenities;
+        this.isFeatured = other.isFeatured;
+        this.areaName = other.areaName;
+        this.pincode = other.pincode;
+        this.cityName = other.cityName;
+        this.state = other.state;
+        this.createdAt = other.createdAt;
+        this.priceDisplay = other.priceDisplay;
+        this.isReadyToMove = other.isReadyToMove;
+        this.ownerType = other.ownerType;
+        this.isVerified = other.isVerified;
+        this.user = other.user;
+    }
+
     // ⭐ NEW: Nested UserDTO class
     public static class UserDTO {
         private Long id;
@@ -106,6 +183,9 @@ public class PropertyDTO {
     public Integer getBathrooms() { return bathrooms; }
     public void setBathrooms(Integer bathrooms) { this.bathrooms = bathrooms; }
 
+    public Integer getBalconies() { return balconies; }
+    public void setBalconies(Integer balconies) { this.balconies = balconies; }
+
     public String getAddress() { return address; }
     public void setAddress(String address) { this.address = address; }
 
@@ -118,6 +198,9 @@ public class PropertyDTO {
     public String getImageUrl() { return imageUrl; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
 
+    public String getPrimaryImageUrl() { return primaryImageUrl; }
+    public void setPrimaryImageUrl(String primaryImageUrl) { this.primaryImageUrl = primaryImageUrl; }
+
     public String getAmenities() { return amenities; }
     public void setAmenities(String amenities) { this.amenities = amenities; }
 
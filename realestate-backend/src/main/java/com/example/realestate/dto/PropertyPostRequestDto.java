@@ -36,6 +36,8 @@ public class PropertyPostRequestDto {
     private String listingType;
     private String city;
     private String address;
+    private Double latitude; // Optional; the area centroid is used when absent
+    private Double longitude;
 
     // --- Other Attributes ---
     private String amenities;
@@ -94,6 +96,10 @@ public class PropertyPostRequestDto {
 
     public String getAddress() { return address; }
     public void setAddress(String address) { this.address = address; }
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
 
     public String getAmenities() { return amenities; }
     public void setAmenities(String amenities) { this.amenities = amenities; }
@@ -15,6 +15,17 @@ public class PropertySearchRequest {
     private String sortOrder = "DESC";
     private Integer page = 0;
     private Integer size = 20;
+    private String cursor; // Keyset continuation token from PropertySliceDTO.nextCursor
+    private String query; // Free-text keywords over title, description, address and amenities
+
+    // Location: a radius around a point, a bounding box, or both (a listing must satisfy each given one)
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+    private Double minLatitude;
+    private Double maxLatitude;
+    private Double minLongitude;
+    private Double maxLongitude;
     private Boolean isVerified;
     private String ownerType;
     private String status;
@@ -59,4 +70,22 @@ public class PropertySearchRequest {
     public void setPage(Integer page) { this.page = page; }
     public Integer getSize() { return size; }
     public void setSize(Integer size) { this.size = size; }
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+    public String getQuery() { return query; }
+    public void setQuery(String query) { this.query = query; }
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+    public Double getRadiusKm() { return radiusKm; }
+    public void setRadiusKm(Double radiusKm) { this.radiusKm = radiusKm; }
+    public Double getMinLatitude() { return minLatitude; }
+    public void setMinLatitude(Double minLatitude) { this.minLatitude = minLatitude; }
+    public Double getMaxLatitude() { return maxLatitude; }
+    public void setMaxLatitude(Double maxLatitude) { this.maxLatitude = maxLatitude; }
+    public Double getMinLongitude() { return minLongitude; }
+    public void setMinLongitude(Double minLongitude) { this.minLongitude = minLongitude; }
+    public Double getMaxLongitude() { return maxLongitude; }
+    public void setMaxLongitude(Double maxLongitude) { this.maxLongitude = maxLongitude; }
 }
\ No newline at end of file
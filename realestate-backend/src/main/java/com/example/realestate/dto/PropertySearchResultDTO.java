@@ -0,0 +1,78 @@
+package com.example.realestate.dto;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PropertySearchResultDTO {
+    // Price bucket upper bounds (exclusive), in rupees: 25L, 50L, 1Cr, 2Cr, 5Cr
+    public static final long[] PRICE_BUCKET_BOUNDS = {2_500_000L, 5_000_000L, 10_000_000L, 20_000_000L, 50_000_000L};
+    public static final String[] PRICE_BUCKET_LABELS = {"<25L", "25L-50L", "50L-1Cr", "1Cr-2Cr", "2Cr-5Cr", "5Cr+"};
+
+    private List<PropertyDTO> properties;
+    private Map<String, Long> cityCounts = new LinkedHashMap<>();
+    private Map<String, Long> areaCounts = new LinkedHashMap<>();
+    private Map<String, Long> propertyTypeCounts = new LinkedHashMap<>();
+    private Map<String, Long> bedroomCounts = new LinkedHashMap<>();
+    private Map<String, Long> priceRangeCounts = new LinkedHashMap<>();
+    private Long totalCount = 0L;
+
+    // Constructors
+    public PropertySearchResultDTO() {}
+
+    /**
+     * Bucket label for a price, null when the price is unknown
+     */
+    public static String priceBucket(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+        for (int i = 0; i < PRICE_BUCKET_BOUNDS.length; i++) {
+            if (price.compareTo(BigDecimal.valueOf(PRICE_BUCKET_BOUNDS[i])) < 0) {
+                return PRICE_BUCKET_LABELS[i];
+            }
+        }
+        return PRICE_BUCKET_LABELS[PRICE_BUCKET_LABELS.length - 1];
+    }
+
+    /**
+     * Add count matching rows to every facet, skipping unknown values
+     */
+    public void addToFacets(String city, String area, String propertyType, Integer bedrooms, String priceBucket, long count) {
+        increment(cityCounts, city, count);
+        increment(areaCounts, area, count);
+        increment(propertyTypeCounts, propertyType, count);
+        increment(bedroomCounts, bedrooms != null ? bedrooms.toString() : null, count);
+        increment(priceRangeCounts, priceBucket, count);
+        totalCount += count;
+    }
+
+    private static void increment(Map<String, Long> counts, String key, long count) {
+        if (key != null) {
+            counts.merge(key, count, Long::sum);
+        }
+    }
+
+    // Getters and Setters
+    public List<PropertyDTO> getProperties() { return properties; }
+    public void setProperties(List<PropertyDTO> properties) { this.properties = properties; }
+
+    public Map<String, Long> getCityCounts() { return cityCounts; }
+    public void setCityCounts(Map<String, Long> cityCounts) { this.cityCounts = cityCounts; }
+
+    public Map<String, Long> getAreaCounts() { return areaCounts; }
+    public void setAreaCounts(Map<String, Long> areaCounts) { this.areaCounts = areaCounts; }
+
+    public Map<String, Long> getPropertyTypeCounts() { return propertyTypeCounts; }
+    public void setPropertyTypeCounts(Map<String, Long> propertyTypeCounts) { this.propertyTypeCounts = propertyTypeCounts; }
+
+    public Map<String, Long> getBedroomCounts() { return bedroomCounts; }
+    public void setBedroomCounts(Map<String, Long> bedroomCounts) { this.bedroomCounts = bedroomCounts; }
+
+    public Map<String, Long> getPriceRangeCounts() { return priceRangeCounts; }
+    public void setPriceRangeCounts(Map<String, Long> priceRangeCounts) { this.priceRangeCounts = priceRangeCounts; }
+
+    public Long getTotalCount() { return totalCount; }
+    public void setTotalCount(Long totalCount) { this.totalCount = totalCount; }
+}
@@ -0,0 +1,82 @@
+package com.example.realestate.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated property feed.
+ * nextCursor is an opaque token for the next request, null when there are no more rows.
+ */
+public class PropertySliceDTO {
+    private List<PropertyDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Integer size;
+
+    // Constructors
+    public PropertySliceDTO() {}
+
+    public PropertySliceDTO(List<PropertyDTO> content, String nextCursor, Integer size) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.size = size;
+    }
+
+    // ==================== CURSOR ====================
+
+    /**
+     * Decoded continuation token: the (createdAt, id) of the last row already returned.
+     * createdAt is null when that row has none; such rows sort after every dated row, by id.
+     */
+    public static class Cursor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+
+        public Cursor(LocalDateTime createdAt, Long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public Long getId() { return id; }
+
+        public String encode() {
+            String raw = (createdAt != null ? createdAt.toString() : "") + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Returns null for an empty token (first page), throws IllegalArgumentException for a malformed one
+         */
+        public static Cursor decode(String token) {
+            if (token == null || token.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                String createdAt = raw.substring(0, separator);
+                return new Cursor(createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+
+    // Getters and Setters
+    public List<PropertyDTO> getContent() { return content; }
+    public void setContent(List<PropertyDTO> content) { this.content = content; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public Integer getSize() { return size; }
+    public void setSize(Integer size) { this.size = size; }
+}
@@ -23,6 +23,13 @@ public class Area {
     @Column(name = "pincode", nullable = false)
     private String pincode;
 
+    // Centroid, used as the location of properties in this area that have no coordinates of their own
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "is_active")
     private Boolean isActive = true;
 
@@ -48,6 +55,12 @@ public class Area {
     public String getPincode() { return pincode; }
     public void setPincode(String pincode) { this.pincode = pincode; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
     public Boolean getIsActive() { return isActive; }
     public void setIsActive(Boolean isActive) { this.isActive = isActive; }
 
@@ -0,0 +1,59 @@
+package com.example.realestate.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Materialized deal count and agreed-price sum for one (agent, stage) pair.
+ * agentId 0 holds the global row for the stage; deals without an agent only count there.
+ */
+@Entity
+@Table(name = "deal_stage_counter",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"agent_id", "stage"}))
+public class DealStageCounter {
+
+    public static final long GLOBAL = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "agent_id", nullable = false)
+    private Long agentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 50)
+    private DealStatus.DealStage stage;
+
+    @Column(name = "deal_count", nullable = false)
+    private Long dealCount = 0L;
+
+    @Column(name = "agreed_price_sum", nullable = false, precision = 19, scale = 2)
+    private BigDecimal agreedPriceSum = BigDecimal.ZERO;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public DealStageCounter() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getAgentId() { return agentId; }
+    public void setAgentId(Long agentId) { this.agentId = agentId; }
+
+    public DealStatus.DealStage getStage() { return stage; }
+    public void setStage(DealStatus.DealStage stage) { this.stage = stage; }
+
+    public Long getDealCount() { return dealCount; }
+    public void setDealCount(Long dealCount) { this.dealCount = dealCount; }
+
+    public BigDecimal getAgreedPriceSum() { return agreedPriceSum; }
+    public void setAgreedPriceSum(BigDecimal agreedPriceSum) { this.agreedPriceSum = agreedPriceSum; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,72 @@
+package com.example.realestate.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One append-only entry in a deal's history: a stage transition and/or a note.
+ * fromStage is null for the event that opens the deal.
+ */
+@Entity
+@Table(name = "deal_stage_event")
+public class DealStageEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "deal_id", nullable = false, updatable = false)
+    private DealStatus deal;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_stage", length = 50, updatable = false)
+    private DealStatus.DealStage fromStage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_stage", nullable = false, length = 50, updatable = false)
+    private DealStatus.DealStage toStage;
+
+    @Column(name = "note", columnDefinition = "TEXT", updatable = false)
+    private String note;
+
+    @Column(name = "author", updatable = false)
+    private String author;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Constructors
+    public DealStageEvent() {}
+
+    public DealStageEvent(DealStatus deal, DealStatus.DealStage fromStage, DealStatus.DealStage toStage,
+                          String note, String author) {
+        this.deal = deal;
+        this.fromStage = fromStage;
+        this.toStage = toStage;
+        this.note = note;
+        this.author = author;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public DealStatus getDeal() { return deal; }
+    public void setDeal(DealStatus deal) { this.deal = deal; }
+
+    public DealStatus.DealStage getFromStage() { return fromStage; }
+    public void setFromStage(DealStatus.DealStage fromStage) { this.fromStage = fromStage; }
+
+    public DealStatus.DealStage getToStage() { return toStage; }
+    public void setToStage(DealStatus.DealStage toStage) { this.toStage = toStage; }
+
+    public String getNote() { return note; }
+    public void setNote(String note) { this.note = note; }
+
+    public String getAuthor() { return author; }
+    public void setAuthor(String author) { this.author = author; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -33,6 +33,13 @@ public class Property {
     @Column(name = "address", columnDefinition = "TEXT")
     private String address;
 
+    // Exact location; when null the area centroid stands in
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "price", precision = 15, scale = 2)
     private BigDecimal price;
 
@@ -91,6 +98,12 @@ public class Property {
     public void setIsReadyToMove(Boolean isReadyToMove) {
         this.isReadyToMove = isReadyToMove;
     }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
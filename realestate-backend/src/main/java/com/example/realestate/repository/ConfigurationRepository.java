@@ -2,8 +2,10 @@ package com.example.realestate.repository;
 
 import com.example.realestate.model.Configuration;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +16,8 @@ public interface ConfigurationRepository extends JpaRepository<Configuration, In
 
     // Check if configuration key exists
     boolean existsByConfigKey(String configKey);
+
+    // Version stamp for change detection: [row count, latest updatedAt]
+    @Query("SELECT COUNT(c), MAX(c.updatedAt) FROM Configuration c")
+    List<Object[]> findVersionStamp();
 }
\ No newline at end of file
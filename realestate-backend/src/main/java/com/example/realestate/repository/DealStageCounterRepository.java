@@ -0,0 +1,53 @@
+package com.example.realestate.repository;
+
+import com.example.realestate.model.DealStageCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface DealStageCounterRepository extends JpaRepository<DealStageCounter, Long> {
+
+    // Global per-stage rows
+    @Query("SELECT c FROM DealStageCounter c WHERE c.agentId = 0")
+    List<DealStageCounter> findGlobalCounters();
+
+    // Per-agent per-stage rows
+    @Query("SELECT c FROM DealStageCounter c WHERE c.agentId > 0")
+    List<DealStageCounter> findAgentCounters();
+
+    // Add a delta to one counter row, creating it on first use
+    @Modifying
+    @Query(value = "INSERT INTO deal_stage_counter (agent_id, stage, deal_count, agreed_price_sum, updated_at) " +
+            "VALUES (:agentId, :stage, :countDelta, :priceDelta, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE deal_count = deal_count + :countDelta, " +
+            "agreed_price_sum = agreed_price_sum + :priceDelta, updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int applyDelta(@Param("agentId") Long agentId, @Param("stage") String stage,
+                   @Param("countDelta") long countDelta, @Param("priceDelta") BigDecimal priceDelta);
+
+    // ==================== REBUILD ====================
+
+    @Modifying
+    @Query(value = "DELETE FROM deal_stage_counter", nativeQuery = true)
+    int deleteAllCounters();
+
+    @Modifying
+    @Query(value = "INSERT INTO deal_stage_counter (agent_id, stage, deal_count, agreed_price_sum, updated_at) " +
+            "SELECT 0, stage, COUNT(*), COALESCE(SUM(agreed_price), 0), CURRENT_TIMESTAMP " +
+            "FROM deal_status GROUP BY stage",
+            nativeQuery = true)
+    int insertGlobalCountersFromDeals();
+
+    @Modifying
+    @Query(value = "INSERT INTO deal_stage_counter (agent_id, stage, deal_count, agreed_price_sum, updated_at) " +
+            "SELECT agent_id, stage, COUNT(*), COALESCE(SUM(agreed_price), 0), CURRENT_TIMESTAMP " +
+            "FROM deal_status WHERE agent_id IS NOT NULL GROUP BY agent_id, stage",
+            nativeQuery = true)
+    int insertAgentCountersFromDeals();
+}
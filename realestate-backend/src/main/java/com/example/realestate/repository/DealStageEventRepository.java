@@ -0,0 +1,19 @@
+package com.example.realestate.repository;
+
+import com.example.realestate.dto.DealStageEventDTO;
+import com.example.realestate.model.DealStageEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DealStageEventRepository extends JpaRepository<DealStageEvent, Long> {
+
+    // One page of a deal's history in the order it happened
+    @Query("SELECT new com.example.realestate.dto.DealStageEventDTO(e.id, e.fromStage, e.toStage, e.note, e.author, e.createdAt) " +
+            "FROM DealStageEvent e WHERE e.deal.id = :dealId ORDER BY e.createdAt ASC, e.id ASC")
+    Slice<DealStageEventDTO> findEventsByDealId(@Param("dealId") Long dealId, Pageable pageable);
+}
@@ -1,6 +1,11 @@
 package com.example.realestate.repository;
 
+import com.example.realestate.dto.AgentPerformanceDTO;
 import com.example.realestate.model.DealStatus;
+import com.example.realestate.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,15 +23,22 @@ public interface DealStatusRepository extends JpaRepository<DealStatus, Long> {
     // Find all deals for a specific property
     List<DealStatus> findByPropertyId(Long propertyId);
 
-    // Find all deals assigned to an agent
+    // Find all deals assigned to an agent, with property, owner, buyer and agent in the same query
+    @EntityGraph(attributePaths = {"property", "property.user", "buyer", "agent"})
     List<DealStatus> findByAgentId(Long agentId);
 
     // Find deals by specific stage
     List<DealStatus> findByStage(DealStatus.DealStage stage);
 
-    // Find all deals for a buyer
+    // Find all deals for a buyer, with property, owner, buyer and agent in the same query
+    @EntityGraph(attributePaths = {"property", "property.user", "buyer", "agent"})
     List<DealStatus> findByBuyerId(Long buyerId);
 
+    // All deals for the admin view, fetched like the per-role lists instead of a lookup per row
+    @EntityGraph(attributePaths = {"property", "property.user", "buyer", "agent"})
+    @Override
+    List<DealStatus> findAll();
+
     // Find all active deals for an agent (not completed)
     @Query("SELECT d FROM DealStatus d WHERE d.agent.id = :agentId AND d.stage != com.example.realestate.model.DealStatus$DealStage.COMPLETED ORDER BY d.updatedAt DESC")
     List<DealStatus> findActiveDealsForAgent(@Param("agentId") Long agentId);
@@ -47,6 +59,42 @@ public interface DealStatusRepository extends JpaRepository<DealStatus, Long> {
     @Query("SELECT d FROM DealStatus d WHERE d.agent.id = :agentId AND d.stage = :stage")
     List<DealStatus> findByAgentIdAndStage(@Param("agentId") Long agentId, @Param("stage") DealStatus.DealStage stage);
 
+    // Find deals on active properties owned by a seller, newest activity first.
+    // Joins through property.user_id in the database and fetches buyer, agent and owner in the same query.
+    @EntityGraph(attributePaths = {"property", "property.user", "buyer", "agent"})
+    @Query("SELECT d FROM DealStatus d WHERE d.property.user.id = :sellerId AND d.property.isActive = true " +
+            "ORDER BY d.updatedAt DESC, d.id DESC")
+    Slice<DealStatus> findSellerDeals(@Param("sellerId") Long sellerId, Pageable pageable);
+
+    // Per-agent performance in one statement: deal totals, per-stage counts and agreed-price sum.
+    // Agents without deals come back with null aggregates, which the DTO constructor treats as zero.
+    @Query("SELECT new com.example.realestate.dto.AgentPerformanceDTO(" +
+            "u.id, u.firstName, u.lastName, u.email, u.mobileNumber, COUNT(d.id), " +
+            "SUM(CASE WHEN d.stage = com.example.realestate.model.DealStatus$DealStage.INQUIRY THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN d.stage = com.example.realestate.model.DealStatus$DealStage.SHORTLIST THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN d.stage = com.example.realestate.model.DealStatus$DealStage.NEGOTIATION THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN d.stage = com.example.realestate.model.DealStatus$DealStage.AGREEMENT THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN d.stage = com.example.realestate.model.DealStatus$DealStage.REGISTRATION THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN d.stage = com.example.realestate.model.DealStatus$DealStage.PAYMENT THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN d.stage = com.example.realestate.model.DealStatus$DealStage.COMPLETED THEN 1L ELSE 0L END), " +
+            "SUM(d.agreedPrice)) " +
+            "FROM User u LEFT JOIN DealStatus d ON d.agent = u " +
+            "WHERE u.role = :role " +
+            "GROUP BY u.id, u.firstName, u.lastName, u.email, u.mobileNumber " +
+            "ORDER BY u.id")
+    List<AgentPerformanceDTO> aggregateAgentPerformance(@Param("role") User.UserRole role);
+
+    // Keyset batch of stage timelines for analytics: only ids, group keys, current stage and stage dates.
+    // Row layout: [id, agentId, agentFirstName, agentLastName, city, propertyType, stage, createdAt,
+    //              inquiryDate, shortlistDate, negotiationDate, agreementDate, registrationDate, paymentDate, completedDate]
+    @Query("SELECT d.id, ag.id, ag.firstName, ag.lastName, COALESCE(c.cityName, p.city), COALESCE(pt.typeName, p.type), " +
+            "d.stage, d.createdAt, d.inquiryDate, d.shortlistDate, d.negotiationDate, d.agreementDate, " +
+            "d.registrationDate, d.paymentDate, d.completedDate " +
+            "FROM DealStatus d JOIN d.property p LEFT JOIN p.area a LEFT JOIN a.city c " +
+            "LEFT JOIN p.propertyType pt LEFT JOIN d.agent ag " +
+            "WHERE d.id > :afterId ORDER BY d.id")
+    List<Object[]> findStageTimelinesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     // Check if deal exists
     boolean existsByPropertyIdAndBuyerId(Long propertyId, Long buyerId);
 }
\ No newline at end of file
@@ -8,11 +8,12 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PropertyImageRepository extends JpaRepository<PropertyImage, Integer> {
+public interface PropertyImageRepository extends JpaRepository<PropertyImage, Integer>, PropertyImageRepositoryCustom {
 
     // Find all images for a property
     @Query("SELECT pi FROM PropertyImage pi WHERE pi.property.id = :propertyId ORDER BY pi.displayOrder")
@@ -22,6 +23,24 @@ public interface PropertyImageRepository extends JpaRepository<PropertyImage, In
     @Query("SELECT pi FROM PropertyImage pi WHERE pi.property.id = :propertyId AND pi.isPrimary = true")
     Optional<PropertyImage> findPrimaryImageByPropertyId(@Param("propertyId") Long propertyId);
 
+    // Primary image URL per property for a page of results; [propertyId, imageUrl]
+    @Query("SELECT pi.property.id, pi.imageUrl FROM PropertyImage pi " +
+            "WHERE pi.property.id IN :propertyIds AND pi.isPrimary = true " +
+            "ORDER BY pi.property.id, pi.displayOrder, pi.imageId")
+    List<Object[]> findPrimaryImageUrls(@Param("propertyIds") Collection<Long> propertyIds);
+
+    // Image count and highest display order in one round trip
+    @Query("SELECT COUNT(pi), MAX(pi.displayOrder) FROM PropertyImage pi WHERE pi.property.id = :propertyId")
+    List<Object[]> findImageCountAndMaxOrder(@Param("propertyId") Long propertyId);
+
+    boolean existsByImageIdAndPropertyId(Integer imageId, Long propertyId);
+
+    // Make one image primary and clear the flag on the others in a single statement
+    @Modifying
+    @Query("UPDATE PropertyImage pi SET pi.isPrimary = CASE WHEN pi.imageId = :imageId THEN true ELSE false END " +
+            "WHERE pi.property.id = :propertyId")
+    int switchPrimaryImage(@Param("propertyId") Long propertyId, @Param("imageId") Integer imageId);
+
     @Modifying
     @Transactional
     @Query("DELETE FROM PropertyImage pi WHERE pi.property.id = :propertyId")
@@ -0,0 +1,14 @@
+package com.example.realestate.repository;
+
+import com.example.realestate.model.PropertyImage;
+
+import java.util.List;
+
+public interface PropertyImageRepositoryCustom {
+
+    /**
+     * Insert all images with multi-row INSERT statements and set their generated ids.
+     * Every image must already reference its property.
+     */
+    void insertAll(List<PropertyImage> images);
+}
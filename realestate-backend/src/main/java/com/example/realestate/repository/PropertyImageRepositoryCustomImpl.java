@@ -0,0 +1,66 @@
+package com.example.realestate.repository;
+
+import com.example.realestate.config.SqlStatementCounter;
+import com.example.realestate.model.PropertyImage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hibernate cannot batch inserts for IDENTITY ids, so image uploads go through JDBC instead:
+ * one multi-row INSERT per chunk, with the generated ids read back in row order.
+ */
+public class PropertyImageRepositoryCustomImpl implements PropertyImageRepositoryCustom {
+
+    private static final int ROWS_PER_STATEMENT = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PropertyImageRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<PropertyImage> images) {
+        for (int from = 0; from < images.size(); from += ROWS_PER_STATEMENT) {
+            insertChunk(images.subList(from, Math.min(from + ROWS_PER_STATEMENT, images.size())));
+        }
+    }
+
+    private void insertChunk(List<PropertyImage> chunk) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO property_images (property_id, image_url, is_primary, display_order, created_at) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+        }
+
+        // Outside Hibernate, so the per-request statement count has to be told about it
+        SqlStatementCounter.countStatement(sql.toString());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (PropertyImage image : chunk) {
+                ps.setLong(index++, image.getProperty().getId());
+                ps.setString(index++, image.getImageUrl());
+                ps.setBoolean(index++, Boolean.TRUE.equals(image.getIsPrimary()));
+                ps.setInt(index++, image.getDisplayOrder() != null ? image.getDisplayOrder() : 0);
+                ps.setTimestamp(index++, image.getCreatedAt() != null ? Timestamp.valueOf(image.getCreatedAt()) : null);
+            }
+            return ps;
+        }, keyHolder);
+
+        // Keys come back in insert order; the column label differs by driver, so take the only value
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < chunk.size() && i < keys.size(); i++) {
+            Object key = keys.get(i).values().iterator().next();
+            chunk.get(i).setImageId(((Number) key).intValue());
+        }
+    }
+}
@@ -1,18 +1,36 @@
 package com.example.realestate.repository;
 
+import com.example.realestate.dto.PropertyDTO;
 import com.example.realestate.model.Property;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface PropertyRepository extends JpaRepository<Property, Long> {
+public interface PropertyRepository extends JpaRepository<Property, Long>, PropertyRepositoryCustom {
+
+    // Shared read path: select straight into PropertyDTO (owner folded into UserDTO) in one joined query,
+    // no entity hydration and no lazy Area.city loads. The search queries in PropertyRepositoryCustomImpl
+    // build on it too
+    String DTO_SELECT = "SELECT new com.example.realestate.dto.PropertyDTO(" +
+            "p.id, COALESCE(pt.typeName, p.type), p.title, p.description, " +
+            "p.price, p.areaSqft, p.bedrooms, p.bathrooms, " +
+            "p.balconies, p.address, p.status, p.listingType, " +
+            "p.imageUrl, p.amenities, p.isFeatured, a.areaName, " +
+            "a.pincode, COALESCE(c.cityName, p.city), c.state, p.createdAt, " +
+            "p.priceDisplay, p.isReadyToMove, p.ownerType, p.isVerified, " +
+            "u.id, u.firstName, u.lastName, u.email, u.mobileNumber) ";
+
+    String DTO_FROM = "FROM Property p " +
+            "LEFT JOIN p.propertyType pt " +
+            "LEFT JOIN p.area a " +
+            "LEFT JOIN a.city c " +
+            "LEFT JOIN p.user u ";
 
     // Find by city (backward compatibility)
     List<Property> findByCityIgnoreCase(String city);
@@ -38,39 +56,6 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
     // Find properties by listing type (sale/rent)
     List<Property> findByListingTypeAndIsActiveTrue(String listingType);
 
-    @Query("SELECT p FROM Property p " +
-            "LEFT JOIN p.propertyType pt " +
-            "LEFT JOIN p.area a " +
-            "LEFT JOIN a.city c " +
-            "WHERE p.isActive = true " +
-            "AND (:propertyType IS NULL OR pt.typeName = :propertyType OR p.type = :propertyType) " +
-            "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
-            "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
-            "AND (:city IS NULL OR c.cityName = :city OR p.city = :city) " +
-            "AND (:area IS NULL OR a.areaName = :area) " +
-            "AND (:listingType IS NULL OR p.listingType = :listingType) " +
-            "AND (:minBedrooms IS NULL OR p.bedrooms >= :minBedrooms) " +
-            "AND (:maxBedrooms IS NULL OR p.bedrooms <= :maxBedrooms) " +
-            "AND (:isVerified IS NULL OR p.isVerified = :isVerified) " +
-            "AND (:ownerType IS NULL OR p.ownerType = :ownerType) " +
-            "AND (:isReadyToMove IS NULL OR p.isReadyToMove = :isReadyToMove)")
-    Page<Property> searchProperties(
-            @Param("propertyType") String propertyType,
-            @Param("minPrice") BigDecimal minPrice,
-            @Param("maxPrice") BigDecimal maxPrice,
-            @Param("city") String city,
-            @Param("area") String area,
-            @Param("listingType") String listingType,
-            @Param("minBedrooms") Integer minBedrooms,
-            @Param("maxBedrooms") Integer maxBedrooms,
-            @Param("isVerified") Boolean isVerified,
-            @Param("ownerType") String ownerType,
-            @Param("isReadyToMove") Boolean isReadyToMove,  // NEW
-            Pageable pageable
-    );
-
-
-
     // Find properties by user
     @Query("SELECT p FROM Property p WHERE p.user.id = :userId AND p.isActive = true")
     List<Property> findByUserId(@Param("userId") Long userId);
@@ -88,4 +73,72 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
 
     // Find all active properties
     List<Property> findByIsActiveTrueOrderByCreatedAtDesc();
-}
\ No newline at end of file
+
+    // Rows strictly after (cursorCreatedAt, cursorId) in createdAt DESC, id DESC order.
+    // Rows without createdAt sort last (NULL is lowest in MySQL and H2); a cursor among them has no createdAt.
+    String AFTER_CURSOR = "AND (:cursorId IS NULL " +
+            "OR (:cursorCreatedAt IS NULL AND p.createdAt IS NULL AND p.id < :cursorId) " +
+            "OR (:cursorCreatedAt IS NOT NULL AND (p.createdAt < :cursorCreatedAt OR p.createdAt IS NULL " +
+            "OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)))) ";
+
+    // Keyset page of the active feed, newest first
+    @Query(DTO_SELECT + DTO_FROM + "WHERE p.isActive = true " + AFTER_CURSOR +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PropertyDTO> findActiveAfter(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    // ==================== DTO PROJECTIONS ====================
+
+    // Keyset page of active properties for the agent catalogue, newest first, filters optional
+    @Query(DTO_SELECT + DTO_FROM +
+            "WHERE p.isActive = true " +
+            "AND (:areaId IS NULL OR a.areaId = :areaId) " +
+            "AND (:propertyType IS NULL OR pt.typeName = :propertyType OR p.type = :propertyType) " +
+            "AND (:listingType IS NULL OR p.listingType = :listingType) " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            AFTER_CURSOR +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PropertyDTO> findAgentCatalogueAfter(
+            @Param("areaId") Integer areaId,
+            @Param("propertyType") String propertyType,
+            @Param("listingType") String listingType,
+            @Param("status") String status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // Featured properties as DTOs, newest first; the pageable carries the LIMIT
+    @Query(DTO_SELECT + DTO_FROM + "WHERE p.isFeatured = true AND p.isActive = true ORDER BY p.createdAt DESC")
+    List<PropertyDTO> findFeaturedPropertyDTOs(Pageable pageable);
+
+    // Properties by listing type (sale/rent) as DTOs
+    @Query(DTO_SELECT + DTO_FROM + "WHERE p.listingType = :listingType AND p.isActive = true")
+    List<PropertyDTO> findPropertyDTOsByListingType(@Param("listingType") String listingType);
+
+    // Properties in an area as DTOs
+    @Query(DTO_SELECT + DTO_FROM + "WHERE a.areaId = :areaId AND p.isActive = true")
+    List<PropertyDTO> findPropertyDTOsByAreaId(@Param("areaId") Integer areaId);
+
+    // Properties owned by a user as DTOs
+    @Query(DTO_SELECT + DTO_FROM + "WHERE u.id = :userId AND p.isActive = true")
+    List<PropertyDTO> findPropertyDTOsByUserId(@Param("userId") Long userId);
+
+    // Active properties with every association fetched in one query (search index build)
+    @Query("SELECT p FROM Property p " +
+            "LEFT JOIN FETCH p.propertyType " +
+            "LEFT JOIN FETCH p.area a " +
+            "LEFT JOIN FETCH a.city " +
+            "LEFT JOIN FETCH p.user " +
+            "WHERE p.isActive = true")
+    List<Property> findActiveWithDetails();
+
+    // Active properties of one area with the same associations (search index refresh after an area edit)
+    @Query("SELECT p FROM Property p " +
+            "LEFT JOIN FETCH p.propertyType " +
+            "JOIN FETCH p.area a " +
+            "LEFT JOIN FETCH a.city " +
+            "LEFT JOIN FETCH p.user " +
+            "WHERE p.isActive = true AND a.areaId = :areaId")
+    List<Property> findActiveWithDetailsByAreaId(@Param("areaId") Integer areaId);
+}
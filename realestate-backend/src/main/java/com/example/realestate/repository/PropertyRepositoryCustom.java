@@ -0,0 +1,31 @@
+package com.example.realestate.repository;
+
+import com.example.realestate.dto.PropertyDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PropertyRepositoryCustom {
+
+    /**
+     * One page of active properties matching the criteria, sorted by the pageable.
+     * With keywords the most relevant come first and the pageable sort breaks ties.
+     */
+    Slice<PropertyDTO> searchProperties(PropertySearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Keyset page for the createdAt DESC feed: up to limit rows strictly after the
+     * (cursorCreatedAt, cursorId) seek position, no OFFSET and no COUNT query. cursorId is null for
+     * the first page; cursorCreatedAt is null when the cursor row has no createdAt
+     */
+    List<PropertyDTO> searchPropertiesAfter(PropertySearchCriteria criteria, LocalDateTime cursorCreatedAt,
+                                            Long cursorId, int limit);
+
+    /**
+     * Facet rows: one row per (city, area, type, bedrooms, price bucket) with its count.
+     * Price bucket is an index into PropertySearchResultDTO.PRICE_BUCKET_LABELS, -1 when price is unknown.
+     */
+    List<Object[]> searchFacetCounts(PropertySearchCriteria criteria);
+}
@@ -0,0 +1,167 @@
+package com.example.realestate.repository;
+
+import com.example.realestate.dto.PropertyDTO;
+import com.example.realestate.dto.PropertySearchResultDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the search, cursor and facet queries from one set of filters. Only the filters a
+ * request sets make it into the WHERE clause, so the database plans each query for the
+ * predicates it actually has instead of a long list of ":param IS NULL OR ..." branches.
+ */
+public class PropertyRepositoryCustomImpl implements PropertyRepositoryCustom {
+
+    // MySQL FULLTEXT relevance of :query over ft_property_text, see FullTextFunctionContributor
+    private static final String TEXT_RELEVANCE =
+            "function('match_against', p.title, p.description, p.address, p.amenities, :query)";
+
+    private static final String GEO_LAT = "COALESCE(p.latitude, a.latitude)";
+    private static final String GEO_LNG = "COALESCE(p.longitude, a.longitude)";
+
+    private static final String PRICE_BUCKET = priceBucketCase();
+
+    private static final String FACET_SELECT = "SELECT COALESCE(c.cityName, p.city), a.areaName, " +
+            "COALESCE(pt.typeName, p.type), p.bedrooms, " + PRICE_BUCKET + ", COUNT(p) " +
+            "FROM Property p " +
+            "LEFT JOIN p.propertyType pt " +
+            "LEFT JOIN p.area a " +
+            "LEFT JOIN a.city c ";
+
+    private static final String FACET_GROUP_BY = "GROUP BY COALESCE(c.cityName, p.city), a.areaName, " +
+            "COALESCE(pt.typeName, p.type), p.bedrooms, " + PRICE_BUCKET;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<PropertyDTO> searchProperties(PropertySearchCriteria criteria, Pageable pageable) {
+        Filters filters = filters(criteria);
+        String jpql = PropertyRepository.DTO_SELECT + PropertyRepository.DTO_FROM + filters.where;
+        if (criteria.getQuery() != null) {
+            jpql += "ORDER BY " + TEXT_RELEVANCE + " DESC";
+        }
+        jpql = QueryUtils.applySorting(jpql, pageable.getSort(), "p");
+
+        // One extra row tells whether another slice exists
+        TypedQuery<PropertyDTO> query = entityManager.createQuery(jpql, PropertyDTO.class);
+        filters.applyTo(query);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<PropertyDTO> rows = query.getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<PropertyDTO> searchPropertiesAfter(PropertySearchCriteria criteria, LocalDateTime cursorCreatedAt,
+                                                   Long cursorId, int limit) {
+        Filters filters = filters(criteria);
+        // Rows without createdAt come after every dated row, so a cursor among them only moves by id
+        if (cursorId != null && cursorCreatedAt == null) {
+            filters.and("(p.createdAt IS NULL AND p.id < :cursorId)")
+                    .bind("cursorId", cursorId);
+        } else if (cursorId != null) {
+            filters.and("(p.createdAt < :cursorCreatedAt OR p.createdAt IS NULL " +
+                            "OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))")
+                    .bind("cursorCreatedAt", cursorCreatedAt)
+                    .bind("cursorId", cursorId);
+        }
+        TypedQuery<PropertyDTO> query = entityManager.createQuery(PropertyRepository.DTO_SELECT
+                + PropertyRepository.DTO_FROM + filters.where + "ORDER BY p.createdAt DESC, p.id DESC", PropertyDTO.class);
+        filters.applyTo(query);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> searchFacetCounts(PropertySearchCriteria criteria) {
+        Filters filters = filters(criteria);
+        TypedQuery<Object[]> query = entityManager.createQuery(FACET_SELECT + filters.where + FACET_GROUP_BY,
+                Object[].class);
+        filters.applyTo(query);
+        return query.getResultList();
+    }
+
+    // Expects the aliases p, pt, a and c of PropertyRepository.DTO_FROM and FACET_SELECT
+    private static Filters filters(PropertySearchCriteria criteria) {
+        Filters filters = new Filters()
+                .andIfPresent("(pt.typeName = :propertyType OR p.type = :propertyType)",
+                        "propertyType", criteria.getPropertyType())
+                .andIfPresent("p.price >= :minPrice", "minPrice", criteria.getMinPrice())
+                .andIfPresent("p.price <= :maxPrice", "maxPrice", criteria.getMaxPrice())
+                .andIfPresent("(c.cityName = :city OR p.city = :city)", "city", criteria.getCity())
+                .andIfPresent("a.areaName = :area", "area", criteria.getArea())
+                .andIfPresent("p.listingType = :listingType", "listingType", criteria.getListingType())
+                .andIfPresent("p.bedrooms >= :minBedrooms", "minBedrooms", criteria.getMinBedrooms())
+                .andIfPresent("p.bedrooms <= :maxBedrooms", "maxBedrooms", criteria.getMaxBedrooms())
+                .andIfPresent("p.isVerified = :isVerified", "isVerified", criteria.getIsVerified())
+                .andIfPresent("p.ownerType = :ownerType", "ownerType", criteria.getOwnerType())
+                .andIfPresent("p.isReadyToMove = :isReadyToMove", "isReadyToMove", criteria.getIsReadyToMove())
+                .andIfPresent(TEXT_RELEVANCE + " > 0", "query", criteria.getQuery());
+
+        if (criteria.getMinLatitude() != null) {
+            filters.and(GEO_LAT + " BETWEEN :geoMinLat AND :geoMaxLat")
+                    .and(GEO_LNG + " BETWEEN :geoMinLng AND :geoMaxLng")
+                    .bind("geoMinLat", criteria.getMinLatitude())
+                    .bind("geoMaxLat", criteria.getMaxLatitude())
+                    .bind("geoMinLng", criteria.getMinLongitude())
+                    .bind("geoMaxLng", criteria.getMaxLongitude());
+        }
+        if (criteria.getRadiusDegreesSquared() != null) {
+            filters.and("(" + GEO_LAT + " - :geoLat) * (" + GEO_LAT + " - :geoLat) + " +
+                            "(" + GEO_LNG + " - :geoLng) * (" + GEO_LNG + " - :geoLng) * :geoLngScale <= :geoRadiusSq")
+                    .bind("geoLat", criteria.getLatitude())
+                    .bind("geoLng", criteria.getLongitude())
+                    .bind("geoLngScale", criteria.getLongitudeScale())
+                    .bind("geoRadiusSq", criteria.getRadiusDegreesSquared());
+        }
+        return filters;
+    }
+
+    private static final class Filters {
+
+        private final StringBuilder where = new StringBuilder("WHERE p.isActive = true ");
+        private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+        Filters and(String predicate) {
+            where.append("AND ").append(predicate).append(' ');
+            return this;
+        }
+
+        Filters bind(String name, Object value) {
+            parameters.put(name, value);
+            return this;
+        }
+
+        Filters andIfPresent(String predicate, String name, Object value) {
+            return value != null ? and(predicate).bind(name, value) : this;
+        }
+
+        void applyTo(Query query) {
+            parameters.forEach(query::setParameter);
+        }
+    }
+
+    // Index into PRICE_BUCKET_LABELS, built from the same bounds that priceBucket() uses in memory
+    private static String priceBucketCase() {
+        StringBuilder jpql = new StringBuilder("CASE WHEN p.price IS NULL THEN -1 ");
+        long[] bounds = PropertySearchResultDTO.PRICE_BUCKET_BOUNDS;
+        for (int i = 0; i < bounds.length; i++) {
+            jpql.append("WHEN p.price < ").append(bounds[i]).append(" THEN ").append(i).append(' ');
+        }
+        return jpql.append("ELSE ").append(bounds.length).append(" END").toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.realestate.repository;
+
+import com.example.realestate.dto.PropertySearchRequest;
+
+import java.math.BigDecimal;
+
+/**
+ * Filters for the search, cursor and facet queries in PropertyRepositoryCustom: the request's
+ * filters plus its location, already resolved to a box and an optional radius. A null field
+ * is not filtered on.
+ */
+public class PropertySearchCriteria {
+
+    private final String propertyType;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final String city;
+    private final String area;
+    private final String listingType;
+    private final Integer minBedrooms;
+    private final Integer maxBedrooms;
+    private final Boolean isVerified;
+    private final String ownerType;
+    private final Boolean isReadyToMove;
+    private final String query; // Keywords for the FULLTEXT match, trimmed
+
+    // Location, own coordinates else the area centroid, inside the box and, when set, the radius
+    private Double minLatitude;
+    private Double maxLatitude;
+    private Double minLongitude;
+    private Double maxLongitude;
+    private Double latitude;
+    private Double longitude;
+    private Double longitudeScale; // cos^2 of the centre latitude
+    private Double radiusDegreesSquared;
+
+    public PropertySearchCriteria(PropertySearchRequest request, String query) {
+        this.propertyType = request.getPropertyType();
+        this.minPrice = request.getMinPrice();
+        this.maxPrice = request.getMaxPrice();
+        this.city = request.getCity();
+        this.area = request.getArea();
+        this.listingType = request.getListingType();
+        this.minBedrooms = request.getMinBedrooms();
+        this.maxBedrooms = request.getMaxBedrooms();
+        this.isVerified = request.getIsVerified();
+        this.ownerType = request.getOwnerType();
+        this.isReadyToMove = request.getIsReadyToMove();
+        this.query = query;
+    }
+
+    public void setBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        this.minLatitude = minLatitude;
+        this.maxLatitude = maxLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLongitude = maxLongitude;
+    }
+
+    /**
+     * Equirectangular radius test: squared degrees, longitude scaled by cos^2 of the centre
+     */
+    public void setRadius(double latitude, double longitude, double longitudeScale, double radiusDegreesSquared) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.longitudeScale = longitudeScale;
+        this.radiusDegreesSquared = radiusDegreesSquared;
+    }
+
+    public String getPropertyType() { return propertyType; }
+    public BigDecimal getMinPrice() { return minPrice; }
+    public BigDecimal getMaxPrice() { return maxPrice; }
+    public String getCity() { return city; }
+    public String getArea() { return area; }
+    public String getListingType() { return listingType; }
+    public Integer getMinBedrooms() { return minBedrooms; }
+    public Integer getMaxBedrooms() { return maxBedrooms; }
+    public Boolean getIsVerified() { return isVerified; }
+    public String getOwnerType() { return ownerType; }
+    public Boolean getIsReadyToMove() { return isReadyToMove; }
+    public String getQuery() { return query; }
+    public Double getMinLatitude() { return minLatitude; }
+    public Double getMaxLatitude() { return maxLatitude; }
+    public Double getMinLongitude() { return minLongitude; }
+    public Double getMaxLongitude() { return maxLongitude; }
+    public Double getLatitude() { return latitude; }
+    public Double getLongitude() { return longitude; }
+    public Double getLongitudeScale() { return longitudeScale; }
+    public Double getRadiusDegreesSquared() { return radiusDegreesSquared; }
+}
@@ -0,0 +1,36 @@
+package com.example.realestate.security;
+
+import com.example.realestate.model.User;
+import org.springframework.security.core.Authentication;
+
+import java.security.Principal;
+
+/**
+ * Principal built from a validated token. Carries everything the controllers need
+ * to authorize a request, so no users-table lookup is required.
+ */
+public record AuthenticatedUser(Long id, String username, User.UserRole role) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public boolean isAdmin() {
+        return role == User.UserRole.ADMIN;
+    }
+
+    public boolean isAgent() {
+        return role == User.UserRole.AGENT;
+    }
+
+    /**
+     * The token principal of the request, or null for anonymous requests
+     */
+    public static AuthenticatedUser from(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        return null;
+    }
+}
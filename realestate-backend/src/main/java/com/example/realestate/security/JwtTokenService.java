@@ -0,0 +1,77 @@
+package com.example.realestate.security;
+
+import com.example.realestate.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Issues and validates HMAC-SHA256 signed tokens carrying the user id, username and role.
+ * Validation is purely local: signature and expiry are checked without touching the database.
+ */
+@Component
+public class JwtTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenService.class);
+
+    private static final String CLAIM_USERNAME = "username";
+    private static final String CLAIM_ROLE = "role";
+
+    private final SecretKey key;
+    private final Duration ttl;
+
+    public JwtTokenService(@Value("${jwt.secret:}") String secret,
+                           @Value("${jwt.expiration:12h}") Duration ttl) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < 32) {
+            // HS256 needs a 256-bit key; without one, tokens only survive until the next restart
+            logger.warn("⚠️ jwt.secret is missing or shorter than 32 bytes, using a random signing key");
+            this.key = Jwts.SIG.HS256.key().build();
+        } else {
+            this.key = Keys.hmacShaKeyFor(secretBytes);
+        }
+        this.ttl = ttl;
+    }
+
+    public String generateToken(User user) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(String.valueOf(user.getId()))
+                .claim(CLAIM_USERNAME, user.getUsername())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + ttl.toMillis()))
+                .signWith(key)
+                .compact();
+    }
+
+    /**
+     * Principal for a valid token, or null when the token is malformed, tampered with or expired
+     */
+    public AuthenticatedUser parseToken(String token) {
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(key)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            return new AuthenticatedUser(
+                    Long.valueOf(claims.getSubject()),
+                    claims.get(CLAIM_USERNAME, String.class),
+                    User.UserRole.valueOf(claims.get(CLAIM_ROLE, String.class)));
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Rejected token: {}", e.getMessage());
+            return null;
+        }
+    }
+}
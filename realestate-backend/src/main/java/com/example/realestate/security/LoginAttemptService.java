@@ -0,0 +1,63 @@
+package com.example.realestate.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts failed logins per username in memory. Once a username reaches maxFailures within
+ * the lockout window, further attempts are refused before any user lookup or password hashing.
+ */
+@Component
+public class LoginAttemptService {
+
+    private final Cache<String, AtomicInteger> failures;
+    private final int maxFailures;
+    private final Duration lockout;
+
+    public LoginAttemptService(@Value("${auth.login.max-failures:5}") int maxFailures,
+                               @Value("${auth.login.lockout:15m}") Duration lockout,
+                               @Value("${auth.login.tracked-usernames:100000}") long trackedUsernames) {
+        this.maxFailures = maxFailures;
+        this.lockout = lockout;
+        // The window restarts on each failure, so a steady trickle of bad attempts stays locked out
+        this.failures = Caffeine.newBuilder()
+                .expireAfterWrite(lockout)
+                .maximumSize(trackedUsernames)
+                .build();
+    }
+
+    public boolean isBlocked(String username) {
+        AtomicInteger count = failures.getIfPresent(key(username));
+        return count != null && count.get() >= maxFailures;
+    }
+
+    public void recordFailure(String username) {
+        String key = key(username);
+        // put() after increment refreshes expireAfterWrite for this username
+        AtomicInteger count = failures.get(key, k -> new AtomicInteger());
+        count.incrementAndGet();
+        failures.put(key, count);
+    }
+
+    public void recordSuccess(String username) {
+        failures.invalidate(key(username));
+    }
+
+    public Duration getLockout() {
+        return lockout;
+    }
+
+    public long trackedUsernames() {
+        return failures.estimatedSize();
+    }
+
+    private static String key(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+}
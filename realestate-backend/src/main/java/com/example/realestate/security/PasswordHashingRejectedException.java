@@ -0,0 +1,11 @@
+package com.example.realestate.security;
+
+/**
+ * Thrown when the password-hashing executor is saturated and a request is shed instead of queued
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.realestate.security;
+
+import com.example.realestate.util.LatencyHistogram;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs BCrypt hashing on a dedicated pool sized to the CPU cores, so a login burst cannot pin
+ * every servlet thread on hashing. Work is shed with PasswordHashingRejectedException when the
+ * queue is full, when the expected wait (queue depth x mean hash time / threads) exceeds maxWait,
+ * or when an admitted hash still does not finish within maxWait. The same figures are published
+ * as auth.password.* meters.
+ * <p>
+ * BCrypt never checks for interrupts, so a hash that has started runs to the end even after its
+ * caller gave up. A timeout therefore only withdraws work that is still queued, which is where
+ * a backlog spends its time; admission keeps the queue short enough that started hashes are
+ * normally still wanted.
+ */
+@Component
+public class PasswordHashingService implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final long maxWaitNanos;
+
+    private final LatencyHistogram hashTime = new LatencyHistogram();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong hashCount = new AtomicLong();
+    private final AtomicLong hashNanos = new AtomicLong();
+    // Exponentially weighted mean hash time, seeded with a typical cost-10 BCrypt duration
+    private volatile double meanHashNanos = TimeUnit.MILLISECONDS.toNanos(80);
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${auth.hashing.threads:0}") int threads,
+                                  @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${auth.hashing.max-wait:2s}") Duration maxWait) {
+        this.passwordEncoder = passwordEncoder;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.maxWaitNanos = maxWait.toNanos();
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(this.threads, this.threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        logger.info("🔐 Password hashing pool started with {} threads, queue {}", this.threads, queueCapacity);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        // Only a backlog is shed; an empty queue always admits, so the mean keeps getting fresh samples
+        double expectedWait = executor.getQueue().size() * meanHashNanos / threads;
+        if (expectedWait > maxWaitNanos) {
+            rejected.incrementAndGet();
+            throw new PasswordHashingRejectedException("Authentication is busy, please retry shortly");
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new PasswordHashingRejectedException("Authentication is busy, please retry shortly");
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            withdraw(future);
+            timedOut.incrementAndGet();
+            throw new PasswordHashingRejectedException("Authentication is busy, please retry shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            withdraw(future);
+            throw new PasswordHashingRejectedException("Authentication was interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+        }
+    }
+
+    // Takes a hash that has not started out of the queue, so it neither runs nor counts towards
+    // the expected wait; one already running cannot be stopped
+    private void withdraw(Future<?> future) {
+        if (future.cancel(false) && future instanceof Runnable queued) {
+            executor.remove(queued);
+        }
+    }
+
+    private void record(long nanos) {
+        hashTime.record(nanos);
+        hashCount.incrementAndGet();
+        hashNanos.addAndGet(nanos);
+        meanHashNanos = meanHashNanos * 0.9 + nanos * 0.1;
+    }
+
+    /**
+     * Pool occupancy, shed counts and hash-time percentiles in milliseconds
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", threads);
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("completed", executor.getCompletedTaskCount());
+        stats.put("rejected", rejected.get());
+        stats.put("timedOut", timedOut.get());
+        stats.put("meanHashMs", round2(meanHashNanos / 1_000_000.0));
+        stats.put("hashTimeMs", hashTime.snapshot());
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("auth.password.hash", this, service -> service.hashCount.get(),
+                        service -> service.hashNanos.get(), TimeUnit.NANOSECONDS)
+                .description("BCrypt hashes completed on the hashing pool")
+                .register(registry);
+        FunctionCounter.builder("auth.password.rejected", rejected, AtomicLong::get)
+                .description("Hashes shed before running because the pool was backed up")
+                .register(registry);
+        FunctionCounter.builder("auth.password.timed.out", timedOut, AtomicLong::get)
+                .description("Admitted hashes that did not finish within the maximum wait")
+                .register(registry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        Gauge.builder("auth.password.queued", executor, pool -> pool.getQueue().size())
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
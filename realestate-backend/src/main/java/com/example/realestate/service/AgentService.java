@@ -1,11 +1,9 @@
 package com.example.realestate.service;
 
-import com.example.realestate.dto.PropertyDTO;
+import com.example.realestate.dto.PropertySliceDTO;
 import com.example.realestate.model.DealStatus;
-import com.example.realestate.model.Property;
 import com.example.realestate.model.User;
 import com.example.realestate.repository.DealStatusRepository;
-import com.example.realestate.repository.PropertyRepository;
 import com.example.realestate.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,15 +20,16 @@ public class AgentService {
 
     private static final Logger logger = LoggerFactory.getLogger(AgentService.class);
 
-    @Autowired
-    private PropertyRepository propertyRepository;
-
     @Autowired
     private DealStatusRepository dealStatusRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PropertySearchService propertySearchService;
+
+    @Transactional(readOnly = true)
     public Map<String, Object> getAgentDashboard(Long agentId) {
         logger.info("Generating dashboard for agent: {}", agentId);
 
@@ -66,15 +65,25 @@ public class AgentService {
         return dashboard;
     }
 
-    public List<PropertyDTO> getAllPropertiesForAgent(Integer page, Integer size) {
-        logger.info("Fetching all properties (page: {}, size: {})", page, size);
-        List<Property> properties = propertyRepository.findByIsActiveTrueOrderByCreatedAtDesc();
+    /**
+     * One slice of active properties, newest first, optionally filtered by area, type, listing type
+     * and status. Continue with the returned nextCursor
+     */
+    @Transactional(readOnly = true)
+    public PropertySliceDTO getAllPropertiesForAgent(String cursorToken, Integer size, Integer areaId,
+                                                     String propertyType, String listingType, String status) {
+        return propertySearchService.getCatalogue(areaId, propertyType, listingType, status, cursorToken, size);
+    }
 
-        return properties.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * Unfiltered variant of getAllPropertiesForAgent: the active feed
+     */
+    @Transactional(readOnly = true)
+    public PropertySliceDTO scrollAllPropertiesForAgent(String cursorToken, Integer size) {
+        return propertySearchService.getActiveFeed(cursorToken, size);
     }
 
+    @Transactional(readOnly = true)
     public Map<String, Object> getAgentStats(Long agentId) {
         logger.info("Calculating stats for agent: {}", agentId);
 
@@ -114,48 +123,4 @@ public class AgentService {
 
         return stats;
     }
-
-    private PropertyDTO convertToDTO(Property property) {
-        PropertyDTO dto = new PropertyDTO();
-        dto.setPropertyId(property.getId());
-        dto.setPropertyType(property.getType());
-        dto.setTitle(property.getTitle());
-        dto.setDescription(property.getDescription());
-        dto.setPrice(property.getPrice());
-        dto.setAreaSqft(property.getAreaSqft());
-        dto.setBedrooms(property.getBedrooms());
-        dto.setBathrooms(property.getBathrooms());
-        dto.setAddress(property.getAddress());
-        dto.setStatus(property.getStatus());
-        dto.setListingType(property.getListingType());
-        dto.setImageUrl(property.getImageUrl());
-        dto.setAmenities(property.getAmenities());
-        dto.setIsFeatured(property.getIsFeatured());
-        dto.setCreatedAt(property.getCreatedAt());
-        dto.setPriceDisplay(property.getPriceDisplay());
-        dto.setIsReadyToMove(property.getIsReadyToMove());
-        dto.setOwnerType(property.getOwnerType());
-        dto.setIsVerified(property.getIsVerified());
-
-        if (property.getUser() != null) {
-            PropertyDTO.UserDTO userDTO = new PropertyDTO.UserDTO();
-            userDTO.setId(property.getUser().getId());
-            userDTO.setFirstName(property.getUser().getFirstName());
-            userDTO.setLastName(property.getUser().getLastName());
-            userDTO.setEmail(property.getUser().getEmail());
-            userDTO.setMobileNumber(property.getUser().getMobileNumber());
-            dto.setUser(userDTO);
-        }
-
-        if (property.getArea() != null) {
-            dto.setAreaName(property.getArea().getAreaName());
-            dto.setPincode(property.getArea().getPincode());
-            if (property.getArea().getCity() != null) {
-                dto.setCityName(property.getArea().getCity().getCityName());
-                dto.setState(property.getArea().getCity().getState());
-            }
-        }
-
-        return dto;
-    }
-}
\ No newline at end of file
+}
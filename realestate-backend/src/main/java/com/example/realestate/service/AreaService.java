@@ -1,10 +1,14 @@
 package com.example.realestate.service;
 
+import com.example.realestate.config.CacheConfig;
+import com.example.realestate.config.PrimaryRead;
 import com.example.realestate.dto.AreaDTO;
 import com.example.realestate.model.Area;
 import com.example.realestate.repository.AreaRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,14 +21,19 @@ public class AreaService {
 
     private static final Logger logger = LoggerFactory.getLogger(AreaService.class);
     private final AreaRepository areaRepository;
+    private final PropertySearchIndex propertySearchIndex;
 
-    public AreaService(AreaRepository areaRepository) {
+    public AreaService(AreaRepository areaRepository, PropertySearchIndex propertySearchIndex) {
         this.areaRepository = areaRepository;
+        this.propertySearchIndex = propertySearchIndex;
     }
 
     /**
      * Get all areas for a specific city
      */
+    @Cacheable(cacheNames = CacheConfig.AREAS, key = "'city:' + #cityName?.toLowerCase()")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public List<AreaDTO> getAreasByCity(String cityName) {
         logger.info("Fetching areas for city: {}", cityName);
         List<Area> areas = areaRepository.findByCityName(cityName);
@@ -36,6 +45,9 @@ public class AreaService {
     /**
      * Get all active areas
      */
+    @Cacheable(cacheNames = CacheConfig.AREAS, key = "'active'")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public List<AreaDTO> getAllActiveAreas() {
         logger.info("Fetching all active areas");
         List<Area> areas = areaRepository.findByIsActiveTrue();
@@ -47,6 +59,9 @@ public class AreaService {
     /**
      * Get area by ID
      */
+    @Cacheable(cacheNames = CacheConfig.AREAS, key = "'id:' + #areaId")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public AreaDTO getAreaById(Integer areaId) {
         logger.info("Fetching area with ID: {}", areaId);
         return areaRepository.findById(areaId)
@@ -57,6 +72,9 @@ public class AreaService {
     /**
      * Get areas by pincode
      */
+    @Cacheable(cacheNames = CacheConfig.AREAS, key = "'pincode:' + #pincode")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public List<AreaDTO> getAreasByPincode(String pincode) {
         logger.info("Fetching areas with pincode: {}", pincode);
         List<Area> areas = areaRepository.findByPincode(pincode);
@@ -68,6 +86,7 @@ public class AreaService {
     /**
      * Create new area
      */
+    @CacheEvict(cacheNames = {CacheConfig.AREAS, CacheConfig.REFERENCE_RESPONSES, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public Area createArea(Area area) {
         logger.info("Creating new area: {}", area.getAreaName());
         return areaRepository.save(area);
@@ -76,6 +95,7 @@ public class AreaService {
     /**
      * Update existing area
      */
+    @CacheEvict(cacheNames = {CacheConfig.AREAS, CacheConfig.REFERENCE_RESPONSES, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public Area updateArea(Integer areaId, Area areaDetails) {
         logger.info("Updating area with ID: {}", areaId);
         Area area = areaRepository.findById(areaId)
@@ -84,13 +104,19 @@ public class AreaService {
         area.setAreaName(areaDetails.getAreaName());
         area.setPincode(areaDetails.getPincode());
         area.setIsActive(areaDetails.getIsActive());
+        area.setLatitude(areaDetails.getLatitude());
+        area.setLongitude(areaDetails.getLongitude());
 
-        return areaRepository.save(area);
+        Area saved = areaRepository.save(area);
+        // Indexed properties carry the area name and, without their own coordinates, its centroid
+        propertySearchIndex.onAreaSaved(saved.getAreaId());
+        return saved;
     }
 
     /**
      * Delete area (soft delete by setting isActive to false)
      */
+    @CacheEvict(cacheNames = {CacheConfig.AREAS, CacheConfig.REFERENCE_RESPONSES, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public void deleteArea(Integer areaId) {
         logger.info("Deleting area with ID: {}", areaId);
         Area area = areaRepository.findById(areaId)
@@ -1,9 +1,13 @@
 package com.example.realestate.service;
 
+import com.example.realestate.config.CacheConfig;
+import com.example.realestate.config.PrimaryRead;
 import com.example.realestate.model.City;
 import com.example.realestate.repository.CityRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +28,9 @@ public class CityService {
     /**
      * Get all active cities
      */
+    @Cacheable(cacheNames = CacheConfig.CITIES, key = "'active'")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public List<City> getAllActiveCities() {
         logger.info("Fetching all active cities");
         return cityRepository.findByIsActiveTrue();
@@ -32,6 +39,9 @@ public class CityService {
     /**
      * Get all cities (including inactive)
      */
+    @Cacheable(cacheNames = CacheConfig.CITIES, key = "'all'")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public List<City> getAllCities() {
         logger.info("Fetching all cities");
         return cityRepository.findAll();
@@ -40,6 +50,9 @@ public class CityService {
     /**
      * Get city by ID
      */
+    @Cacheable(cacheNames = CacheConfig.CITIES, key = "'id:' + #cityId")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public City getCityById(Integer cityId) {
         logger.info("Fetching city with ID: {}", cityId);
         return cityRepository.findById(cityId)
@@ -49,6 +62,9 @@ public class CityService {
     /**
      * Get city by name
      */
+    @Cacheable(cacheNames = CacheConfig.CITIES, key = "'name:' + #cityName?.toLowerCase()")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public City getCityByName(String cityName) {
         logger.info("Fetching city with name: {}", cityName);
         return cityRepository.findByCityNameIgnoreCase(cityName)
@@ -58,6 +74,9 @@ public class CityService {
     /**
      * Get cities by state
      */
+    @Cacheable(cacheNames = CacheConfig.CITIES, key = "'state:' + #state")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public List<City> getCitiesByState(String state) {
         logger.info("Fetching cities in state: {}", state);
         return cityRepository.findByState(state);
@@ -66,6 +85,7 @@ public class CityService {
     /**
      * Create new city
      */
+    @CacheEvict(cacheNames = {CacheConfig.CITIES, CacheConfig.AREAS, CacheConfig.REFERENCE_RESPONSES, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public City createCity(City city) {
         logger.info("Creating new city: {}", city.getCityName());
 
@@ -82,6 +102,7 @@ public class CityService {
     /**
      * Update existing city
      */
+    @CacheEvict(cacheNames = {CacheConfig.CITIES, CacheConfig.AREAS, CacheConfig.REFERENCE_RESPONSES, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public City updateCity(Integer cityId, City cityDetails) {
         logger.info("Updating city with ID: {}", cityId);
         City city = cityRepository.findById(cityId)
@@ -98,6 +119,7 @@ public class CityService {
     /**
      * Delete city (soft delete by setting isActive to false)
      */
+    @CacheEvict(cacheNames = {CacheConfig.CITIES, CacheConfig.AREAS, CacheConfig.REFERENCE_RESPONSES, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public void deleteCity(Integer cityId) {
         logger.info("Deleting city with ID: {}", cityId);
         City city = cityRepository.findById(cityId)
@@ -1,9 +1,13 @@
 package com.example.realestate.service;
 
+import com.example.realestate.config.CacheConfig;
+import com.example.realestate.config.PrimaryRead;
 import com.example.realestate.model.Configuration;
 import com.example.realestate.repository.ConfigurationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,14 +20,19 @@ public class ConfigurationService {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationService.class);
     private final ConfigurationRepository configurationRepository;
+    private final ConfigurationSnapshotHolder snapshotHolder;
 
-    public ConfigurationService(ConfigurationRepository configurationRepository) {
+    public ConfigurationService(ConfigurationRepository configurationRepository,
+                                ConfigurationSnapshotHolder snapshotHolder) {
         this.configurationRepository = configurationRepository;
+        this.snapshotHolder = snapshotHolder;
     }
 
     /**
      * Get all configurations
      */
+    @Cacheable(cacheNames = CacheConfig.CONFIGURATION, key = "'all'")
+    @PrimaryRead
     public List<Configuration> getAllConfigurations() {
         logger.info("Fetching all configurations");
         return configurationRepository.findAll();
@@ -32,6 +41,8 @@ public class ConfigurationService {
     /**
      * Get configuration by key
      */
+    @Cacheable(cacheNames = CacheConfig.CONFIGURATION, key = "'key:' + #configKey")
+    @PrimaryRead
     public Configuration getConfigurationByKey(String configKey) {
         logger.info("Fetching configuration with key: {}", configKey);
         return configurationRepository.findByConfigKey(configKey)
@@ -39,28 +50,30 @@ public class ConfigurationService {
     }
 
     /**
-     * Get configuration value by key
+     * Get configuration value by key, from the in-memory snapshot
      */
     public String getConfigurationValue(String configKey) {
-        logger.info("Fetching configuration value for key: {}", configKey);
-        return configurationRepository.findByConfigKey(configKey)
-                .map(Configuration::getConfigValue)
-                .orElse(null);
+        return snapshotHolder.current().getString(configKey);
     }
 
     /**
-     * Get configuration value by key with default value
+     * Get configuration value by key with default value, from the in-memory snapshot
      */
     public String getConfigurationValue(String configKey, String defaultValue) {
-        logger.info("Fetching configuration value for key: {} with default: {}", configKey, defaultValue);
-        return configurationRepository.findByConfigKey(configKey)
-                .map(Configuration::getConfigValue)
-                .orElse(defaultValue);
+        return snapshotHolder.current().getString(configKey, defaultValue);
+    }
+
+    /**
+     * Typed, immutable view of all configuration rows; hot paths should read this directly
+     */
+    public ConfigurationSnapshot getSnapshot() {
+        return snapshotHolder.current();
     }
 
     /**
      * Create or update configuration
      */
+    @CacheEvict(cacheNames = {CacheConfig.CONFIGURATION, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public Configuration saveConfiguration(String configKey, String configValue, String description) {
         logger.info("Saving configuration with key: {}", configKey);
 
@@ -72,12 +85,15 @@ public class ConfigurationService {
         config.setDescription(description);
         config.setUpdatedAt(LocalDateTime.now());
 
-        return configurationRepository.save(config);
+        Configuration saved = configurationRepository.save(config);
+        snapshotHolder.refreshAfterCommit();
+        return saved;
     }
 
     /**
      * Update configuration value
      */
+    @CacheEvict(cacheNames = {CacheConfig.CONFIGURATION, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public Configuration updateConfigurationValue(String configKey, String newValue) {
         logger.info("Updating configuration value for key: {}", configKey);
 
@@ -87,23 +103,29 @@ public class ConfigurationService {
         config.setConfigValue(newValue);
         config.setUpdatedAt(LocalDateTime.now());
 
-        return configurationRepository.save(config);
+        Configuration saved = configurationRepository.save(config);
+        snapshotHolder.refreshAfterCommit();
+        return saved;
     }
 
     /**
      * Delete configuration
      */
+    @CacheEvict(cacheNames = {CacheConfig.CONFIGURATION, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public void deleteConfiguration(String configKey) {
         logger.info("Deleting configuration with key: {}", configKey);
         Configuration config = configurationRepository.findByConfigKey(configKey)
                 .orElseThrow(() -> new RuntimeException("Configuration not found with key: " + configKey));
 
         configurationRepository.delete(config);
+        snapshotHolder.refreshAfterCommit();
     }
 
     /**
      * Check if configuration exists
      */
+    @Cacheable(cacheNames = CacheConfig.CONFIGURATION, key = "'exists:' + #configKey")
+    @PrimaryRead
     public boolean configurationExists(String configKey) {
         return configurationRepository.existsByConfigKey(configKey);
     }
@@ -0,0 +1,171 @@
+package com.example.realestate.service;
+
+import com.example.realestate.model.Configuration;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Immutable, typed view of every configuration row.
+ * Values are parsed once when the snapshot is built; typed getters are plain map lookups.
+ * Feature flags are boolean rows named FEATURE_<NAME>.
+ */
+public final class ConfigurationSnapshot {
+
+    public static final String FEATURE_PREFIX = "FEATURE_";
+
+    private final long version;
+    private final String stamp;
+    private final Map<String, String> values;
+    private final Map<String, Long> longs;
+    private final Map<String, Boolean> booleans;
+    private final Map<String, Duration> durations;
+    private final Map<String, Set<String>> lists;
+
+    private ConfigurationSnapshot(long version, String stamp, Map<String, String> values) {
+        this.version = version;
+        this.stamp = stamp;
+        this.values = Collections.unmodifiableMap(values);
+
+        Map<String, Long> longs = new HashMap<>();
+        Map<String, Boolean> booleans = new HashMap<>();
+        Map<String, Duration> durations = new HashMap<>();
+        Map<String, Set<String>> lists = new HashMap<>();
+        values.forEach((key, raw) -> {
+            String value = raw.trim();
+            Long asLong = parseLong(value);
+            if (asLong != null) {
+                longs.put(key, asLong);
+            }
+            Boolean asBoolean = parseBoolean(value);
+            if (asBoolean != null) {
+                booleans.put(key, asBoolean);
+            }
+            Duration asDuration = parseDuration(value);
+            if (asDuration != null) {
+                durations.put(key, asDuration);
+            }
+            if (value.indexOf(',') >= 0) {
+                Set<String> items = new LinkedHashSet<>();
+                for (String item : value.split(",")) {
+                    if (!item.isBlank()) {
+                        items.add(item.trim());
+                    }
+                }
+                lists.put(key, Collections.unmodifiableSet(items));
+            }
+        });
+        this.longs = longs;
+        this.booleans = booleans;
+        this.durations = durations;
+        this.lists = lists;
+    }
+
+    static ConfigurationSnapshot of(long version, String stamp, List<Configuration> rows) {
+        Map<String, String> values = new HashMap<>();
+        for (Configuration row : rows) {
+            if (row.getConfigKey() != null && row.getConfigValue() != null) {
+                values.put(row.getConfigKey(), row.getConfigValue());
+            }
+        }
+        return new ConfigurationSnapshot(version, stamp, values);
+    }
+
+    static ConfigurationSnapshot empty() {
+        return new ConfigurationSnapshot(0, null, new HashMap<>());
+    }
+
+    // ==================== TYPED GETTERS ====================
+
+    public String getString(String key) {
+        return values.get(key);
+    }
+
+    public String getString(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        Long value = longs.get(key);
+        return value != null && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE
+                ? value.intValue() : defaultValue;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        return longs.getOrDefault(key, defaultValue);
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return booleans.getOrDefault(key, defaultValue);
+    }
+
+    public Duration getDuration(String key, Duration defaultValue) {
+        return durations.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Comma-separated value as a set; a single value without commas comes back as a one-element set
+     */
+    public Set<String> getList(String key) {
+        Set<String> items = lists.get(key);
+        if (items != null) {
+            return items;
+        }
+        String value = values.get(key);
+        return value == null || value.isBlank() ? Collections.emptySet() : Set.of(value.trim());
+    }
+
+    /**
+     * Feature flag FEATURE_<name>; missing or unparsable flags are off
+     */
+    public boolean isFeatureEnabled(String name) {
+        return booleans.getOrDefault(FEATURE_PREFIX + name, false);
+    }
+
+    public long getVersion() { return version; }
+    public String getStamp() { return stamp; }
+    public Map<String, String> getValues() { return values; }
+
+    // ==================== PARSING ====================
+
+    private static Long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        switch (value.toLowerCase()) {
+            case "true": case "yes": case "on": return Boolean.TRUE;
+            case "false": case "no": case "off": return Boolean.FALSE;
+            default: return null;
+        }
+    }
+
+    /**
+     * ISO-8601 (PT30S) or a number with a unit suffix: ms, s, m, h, d
+     */
+    private static Duration parseDuration(String value) {
+        String lower = value.toLowerCase();
+        try {
+            if (lower.startsWith("p")) {
+                return Duration.parse(value.toUpperCase());
+            }
+            if (lower.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(lower.substring(0, lower.length() - 2).trim()));
+            }
+            long amount = Long.parseLong(lower.substring(0, lower.length() - 1).trim());
+            switch (lower.charAt(lower.length() - 1)) {
+                case 's': return Duration.ofSeconds(amount);
+                case 'm': return Duration.ofMinutes(amount);
+                case 'h': return Duration.ofHours(amount);
+                case 'd': return Duration.ofDays(amount);
+                default: return null;
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
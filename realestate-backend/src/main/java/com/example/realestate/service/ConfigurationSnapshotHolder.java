@@ -0,0 +1,82 @@
+package com.example.realestate.service;
+
+import com.example.realestate.model.Configuration;
+import com.example.realestate.repository.ConfigurationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the current ConfigurationSnapshot. current() is a single volatile read, safe on any hot path.
+ * Rebuilt after ConfigurationService commits a write, and whenever the periodic version check
+ * sees the table change underneath (edits from another instance or straight in SQL).
+ */
+@Component
+public class ConfigurationSnapshotHolder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationSnapshotHolder.class);
+
+    private final ConfigurationRepository configurationRepository;
+    private final AtomicLong versions = new AtomicLong();
+    private volatile ConfigurationSnapshot current = ConfigurationSnapshot.empty();
+
+    public ConfigurationSnapshotHolder(ConfigurationRepository configurationRepository) {
+        this.configurationRepository = configurationRepository;
+    }
+
+    public ConfigurationSnapshot current() {
+        return current;
+    }
+
+    /**
+     * Rebuild once the surrounding transaction commits, or right away outside a transaction
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        String stamp = readStamp();
+        List<Configuration> rows = configurationRepository.findAll();
+        current = ConfigurationSnapshot.of(versions.incrementAndGet(), stamp, rows);
+        logger.info("⚙️ Configuration snapshot v{} loaded with {} keys", current.getVersion(), rows.size());
+    }
+
+    /**
+     * Cheap change detection: row count plus latest updated_at, one aggregate query
+     */
+    @Scheduled(fixedDelayString = "${config.snapshot.check-interval-ms:30000}",
+            initialDelayString = "${config.snapshot.check-interval-ms:30000}")
+    public void checkForChanges() {
+        try {
+            if (!readStamp().equals(current.getStamp())) {
+                refresh();
+            }
+        } catch (Exception e) {
+            logger.warn("Configuration version check failed: {}", e.getMessage());
+        }
+    }
+
+    private String readStamp() {
+        Object[] row = configurationRepository.findVersionStamp().get(0);
+        return row[0] + "|" + row[1];
+    }
+}
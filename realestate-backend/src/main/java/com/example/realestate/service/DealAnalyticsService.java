@@ -0,0 +1,180 @@
+package com.example.realestate.service;
+
+import com.example.realestate.config.AnalyticsWorkload;
+import com.example.realestate.dto.DealFunnelDTO;
+import com.example.realestate.model.DealStatus;
+import com.example.realestate.repository.DealStatusRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Funnel conversion and time-in-stage analytics over the DealStatus stage dates.
+ * Deals are read in keyset batches of projected rows and folded into per-group accumulators,
+ * so heap use depends on the number of groups, never on the number of deals.
+ */
+@AnalyticsWorkload
+@Service
+@Transactional(readOnly = true)
+public class DealAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DealAnalyticsService.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final DealStatus.DealStage[] STAGES = DealStatus.DealStage.values();
+
+    public static final List<String> DIMENSIONS = List.of("all", "agent", "city", "propertyType");
+
+    private final DealStatusRepository dealStatusRepository;
+
+    public DealAnalyticsService(DealStatusRepository dealStatusRepository) {
+        this.dealStatusRepository = dealStatusRepository;
+    }
+
+    /**
+     * Funnel and time-in-stage metrics grouped by dimension: all, agent, city or propertyType
+     */
+    public List<DealFunnelDTO> getFunnel(String dimension) {
+        if (!DIMENSIONS.contains(dimension)) {
+            throw new IllegalArgumentException("Invalid dimension: " + dimension + ". Use one of " + DIMENSIONS);
+        }
+
+        Map<String, GroupStats> groups = new TreeMap<>();
+        long scanned = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> batch = dealStatusRepository.findStageTimelinesAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+            for (Object[] row : batch) {
+                groups.computeIfAbsent(groupKey(dimension, row), key -> new GroupStats()).add(row);
+            }
+            scanned += batch.size();
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            lastId = (Long) batch.get(batch.size() - 1)[0];
+        }
+
+        List<DealFunnelDTO> result = new ArrayList<>(groups.size());
+        groups.forEach((key, stats) -> result.add(stats.toDTO(dimension, key)));
+        logger.info("📈 Deal funnel by {} - {} deals in {} groups", dimension, scanned, result.size());
+        return result;
+    }
+
+    private static String groupKey(String dimension, Object[] row) {
+        switch (dimension) {
+            case "agent":
+                return row[1] == null ? "Unassigned" : row[2] + " " + row[3] + " (#" + row[1] + ")";
+            case "city":
+                return row[4] == null ? "Unknown" : (String) row[4];
+            case "propertyType":
+                return row[5] == null ? "Unknown" : (String) row[5];
+            default:
+                return "All deals";
+        }
+    }
+
+    // ==================== ACCUMULATORS ====================
+
+    private static class GroupStats {
+        private long total;
+        private final long[] reached = new long[STAGES.length];
+        private final DurationHistogram[] timeInStage = new DurationHistogram[STAGES.length - 1];
+
+        void add(Object[] row) {
+            total++;
+
+            // Stages only move forward, so the current stage tells how far the deal got
+            DealStatus.DealStage current = (DealStatus.DealStage) row[6];
+            for (int i = 0; i < current.getOrder(); i++) {
+                reached[i]++;
+            }
+
+            // Stage entry times; inquiryDate is not always set, createdAt stands in for it
+            LocalDateTime[] entered = new LocalDateTime[STAGES.length];
+            entered[0] = row[8] != null ? (LocalDateTime) row[8] : (LocalDateTime) row[7];
+            for (int i = 1; i < STAGES.length; i++) {
+                entered[i] = (LocalDateTime) row[8 + i];
+            }
+
+            // Time in a stage runs until the next stage the deal actually entered (stages can be skipped)
+            for (int i = 0; i < STAGES.length - 1; i++) {
+                if (entered[i] == null) {
+                    continue;
+                }
+                for (int j = i + 1; j < STAGES.length; j++) {
+                    if (entered[j] != null) {
+                        long minutes = Duration.between(entered[i], entered[j]).toMinutes();
+                        if (minutes >= 0) {
+                            if (timeInStage[i] == null) {
+                                timeInStage[i] = new DurationHistogram();
+                            }
+                            timeInStage[i].add(minutes);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        DealFunnelDTO toDTO(String dimension, String key) {
+            DealFunnelDTO dto = new DealFunnelDTO(dimension, key, total);
+            for (int i = 0; i < STAGES.length; i++) {
+                Double conversion = null;
+                if (i < STAGES.length - 1 && reached[i] > 0) {
+                    conversion = round2(reached[i + 1] * 100.0 / reached[i]);
+                }
+                DurationHistogram histogram = i < timeInStage.length ? timeInStage[i] : null;
+                dto.getStages().add(new DealFunnelDTO.StageMetrics(
+                        STAGES[i].name(),
+                        reached[i],
+                        conversion,
+                        histogram != null ? histogram.count : 0L,
+                        histogram != null ? round2(histogram.quantileMinutes(0.5) / 60.0) : null,
+                        histogram != null ? round2(histogram.quantileMinutes(0.9) / 60.0) : null));
+            }
+            return dto;
+        }
+    }
+
+    /**
+     * Fixed-size log-scale histogram of durations in minutes. Buckets grow by 10%,
+     * so quantiles carry at most ~5% relative error in constant memory per stage.
+     */
+    private static class DurationHistogram {
+        private static final double GROWTH = 1.1;
+        private static final double LOG_GROWTH = Math.log(GROWTH);
+        private static final int BUCKETS = 200;
+
+        private final long[] counts = new long[BUCKETS];
+        private long count;
+
+        void add(long minutes) {
+            int bucket = minutes < 1 ? 0 : Math.min(BUCKETS - 1, 1 + (int) (Math.log(minutes) / LOG_GROWTH));
+            counts[bucket]++;
+            count++;
+        }
+
+        double quantileMinutes(double q) {
+            long rank = (long) Math.ceil(q * count);
+            long seen = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank && counts[bucket] > 0) {
+                    // Geometric midpoint of [GROWTH^(b-1), GROWTH^b)
+                    return bucket == 0 ? 0 : Math.pow(GROWTH, bucket - 0.5);
+                }
+            }
+            return 0;
+        }
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
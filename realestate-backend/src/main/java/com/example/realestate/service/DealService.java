@@ -1,18 +1,25 @@
 package com.example.realestate.service;
 
+import com.example.realestate.config.AnalyticsWorkload;
+import com.example.realestate.config.RowsLoaded;
+import com.example.realestate.model.DealStageEvent;
 import com.example.realestate.model.DealStatus;
 import com.example.realestate.model.Property;
 import com.example.realestate.model.User;
 import com.example.realestate.dto.CreateDealWithPriceRequestDto;
 import com.example.realestate.dto.DealDetailDTO;
+import com.example.realestate.dto.DealStageEventDTO;
 import com.example.realestate.dto.AgentPerformanceDTO;
 import com.example.realestate.dto.AdminDealDashboardDTO;
+import com.example.realestate.repository.DealStageEventRepository;
 import com.example.realestate.repository.DealStatusRepository;
 import com.example.realestate.repository.PropertyRepository;
 import com.example.realestate.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +43,12 @@ public class DealService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private DealStatsService dealStatsService;
+
+    @Autowired
+    private DealStageEventRepository dealStageEventRepository;
+
     // ==================== CREATE DEAL WITH PRICE ====================
     /**
      * ⭐ CORRECTED: Create deal with agreed price
@@ -110,6 +123,9 @@ public class DealService {
         deal.setLastUpdatedBy(agent.getUsername());
 
         DealStatus savedDeal = dealStatusRepository.save(deal);
+        dealStatsService.recordCreated(savedDeal);
+        dealStageEventRepository.save(new DealStageEvent(savedDeal, null, savedDeal.getStage(),
+                savedDeal.getNotes(), savedDeal.getLastUpdatedBy()));
         logger.info("✅ Deal created with price - Deal ID: {}, Agreed Price: {}",
                 savedDeal.getId(), savedDeal.getAgreedPrice());
         return savedDeal;
@@ -151,6 +167,9 @@ public class DealService {
         deal.setLastUpdatedBy(buyer.getUsername());
 
         DealStatus savedDeal = dealStatusRepository.save(deal);
+        dealStatsService.recordCreated(savedDeal);
+        dealStageEventRepository.save(new DealStageEvent(savedDeal, null, savedDeal.getStage(),
+                savedDeal.getNotes(), savedDeal.getLastUpdatedBy()));
         logger.info("✅ Deal created - Deal ID: {}", savedDeal.getId());
         return savedDeal;
     }
@@ -163,6 +182,8 @@ public class DealService {
      * AGENT: Sees deals they created
      * ADMIN: Sees all deals
      */
+    @Transactional(readOnly = true)
+    @RowsLoaded("deals.by.role")
     public List<DealDetailDTO> getDealsByRole(Long userId, String userRole) {
         logger.info("Fetching deals for user: {} with role: {}", userId, userRole);
 
@@ -174,22 +195,8 @@ public class DealService {
 
         } else if ("SELLER".equalsIgnoreCase(userRole)) {
             logger.info("📋 Fetching deals where user {} is SELLER", userId);
-            // Get all properties owned by this user
-            List<Property> sellerProperties = propertyRepository.findByUserId(userId);
-
-            if (!sellerProperties.isEmpty()) {
-                List<Long> propertyIds = sellerProperties.stream()
-                        .map(Property::getId)
-                        .collect(Collectors.toList());
-
-                // Get all deals on seller's properties
-                deals = dealStatusRepository.findAll().stream()
-                        .filter(d -> propertyIds.contains(d.getProperty().getId()))
-                        .sorted(Comparator.comparing(DealStatus::getUpdatedAt).reversed())
-                        .collect(Collectors.toList());
-            }
-            logger.info("🏠 Found {} properties and {} deals for seller {}",
-                    sellerProperties.size(), deals.size(), userId);
+            deals = dealStatusRepository.findSellerDeals(userId, Pageable.unpaged()).getContent();
+            logger.info("🏠 Found {} deals for seller {}", deals.size(), userId);
 
         } else if ("AGENT".equalsIgnoreCase(userRole)) {
             logger.info("📋 Fetching deals where user {} is AGENT", userId);
@@ -206,39 +213,43 @@ public class DealService {
                 .collect(Collectors.toList());
     }
 
+    // ==================== SELLER DEALS ====================
+    /**
+     * One page of deals on properties owned by the seller, most recently updated first
+     */
+    @Transactional(readOnly = true)
+    public List<DealDetailDTO> getSellerDeals(Long sellerId, Integer page, Integer size) {
+        int pageNumber = page != null && page >= 0 ? page : 0;
+        int pageSize = size != null && size > 0 ? Math.min(size, 100) : 20;
+
+        return dealStatusRepository.findSellerDeals(sellerId, PageRequest.of(pageNumber, pageSize))
+                .map(this::convertToDealDetailDTO)
+                .getContent();
+    }
+
     // ==================== ADMIN DASHBOARD ⭐ CORRECTED ====================
     /**
      * ⭐ CORRECTED: Get admin dashboard with all statistics
      */
+    @Transactional(readOnly = true)
+    @AnalyticsWorkload
+    @RowsLoaded("admin.dashboard")
     public AdminDealDashboardDTO getAdminDashboard() {
         logger.info("📊 Generating admin dashboard");
 
-        List<DealStatus> allDeals = dealStatusRepository.findAll();
         AdminDealDashboardDTO dashboard = new AdminDealDashboardDTO();
 
-        // Total counts
-        Long totalDeals = (long) allDeals.size();
-        Long activeDealCount = allDeals.stream()
-                .filter(d -> d.getStage() != DealStatus.DealStage.COMPLETED)
-                .count();
-        Long completedDealCount = allDeals.stream()
-                .filter(d -> d.getStage() == DealStatus.DealStage.COMPLETED)
-                .count();
+        // Deals by stage, from the materialized counters
+        Map<String, Long> dealsByStage = dealStatsService.getDealCountsByStage();
+        dashboard.setDealsByStage(dealsByStage);
 
+        // Total counts
+        Long totalDeals = dealsByStage.values().stream().mapToLong(Long::longValue).sum();
+        Long completedDealCount = dealsByStage.get(DealStatus.DealStage.COMPLETED.name());
         dashboard.setTotalDeals(totalDeals);
-        dashboard.setActiveDealCount(activeDealCount);
+        dashboard.setActiveDealCount(totalDeals - completedDealCount);
         dashboard.setCompletedDealCount(completedDealCount);
 
-        // Deals by stage
-        Map<String, Long> dealsByStage = new HashMap<>();
-        for (DealStatus.DealStage stage : DealStatus.DealStage.values()) {
-            long count = allDeals.stream()
-                    .filter(d -> d.getStage() == stage)
-                    .count();
-            dealsByStage.put(stage.name(), count);
-        }
-        dashboard.setDealsByStage(dealsByStage);
-
         // Agent performance
         List<AgentPerformanceDTO> agentPerformance = getAgentPerformanceMetrics();
         dashboard.setAgentPerformance(agentPerformance);
@@ -251,76 +262,51 @@ public class DealService {
     /**
      * Get performance metrics for all agents
      */
+    @Transactional(readOnly = true)
+    @AnalyticsWorkload
     public List<AgentPerformanceDTO> getAgentPerformanceMetrics() {
         logger.info("📈 Calculating agent performance metrics");
 
-        List<User> agents = userRepository.findByRole(User.UserRole.AGENT);
-        List<AgentPerformanceDTO> performanceList = new ArrayList<>();
-
-        for (User agent : agents) {
-            List<DealStatus> agentDeals = dealStatusRepository.findByAgentId(agent.getId());
-
-            Long totalDeals = (long) agentDeals.size();
-            Long activeDeals = agentDeals.stream()
-                    .filter(d -> d.getStage() != DealStatus.DealStage.COMPLETED)
-                    .count();
-            Long completedDeals = agentDeals.stream()
-                    .filter(d -> d.getStage() == DealStatus.DealStage.COMPLETED)
-                    .count();
-
-            // Conversion rate
-            String conversionRate = "0%";
-            if (totalDeals > 0) {
-                double rate = (completedDeals.doubleValue() / totalDeals.doubleValue()) * 100;
-                conversionRate = String.format("%.2f%%", rate);
-            }
-
-            // Average deal price
-            BigDecimal averagePrice = BigDecimal.ZERO;
-            if (!agentDeals.isEmpty()) {
-                BigDecimal totalPrice = agentDeals.stream()
-                        .filter(d -> d.getAgreedPrice() != null)
-                        .map(DealStatus::getAgreedPrice)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-                averagePrice = totalPrice.divide(BigDecimal.valueOf(agentDeals.size()), BigDecimal.ROUND_HALF_UP);
-            }
-
-            AgentPerformanceDTO performance = new AgentPerformanceDTO();
-            performance.setAgentId(agent.getId());
-            performance.setAgentName(agent.getFirstName() + " " + agent.getLastName());
-            performance.setAgentEmail(agent.getEmail());
-            performance.setAgentMobile(agent.getMobileNumber());
-            performance.setTotalDeals(totalDeals);
-            performance.setActiveDeals(activeDeals);
-            performance.setCompletedDeals(completedDeals);
-            performance.setConversionRate(conversionRate);
-            performance.setAverageDealPrice(averagePrice);
-
-            // Stage breakdown
-            performance.setInquiryCount(agentDeals.stream()
-                    .filter(d -> d.getStage() == DealStatus.DealStage.INQUIRY).count());
-            performance.setShortlistCount(agentDeals.stream()
-                    .filter(d -> d.getStage() == DealStatus.DealStage.SHORTLIST).count());
-            performance.setNegotiationCount(agentDeals.stream()
-                    .filter(d -> d.getStage() == DealStatus.DealStage.NEGOTIATION).count());
-            performance.setAgreementCount(agentDeals.stream()
-                    .filter(d -> d.getStage() == DealStatus.DealStage.AGREEMENT).count());
-            performance.setRegistrationCount(agentDeals.stream()
-                    .filter(d -> d.getStage() == DealStatus.DealStage.REGISTRATION).count());
-            performance.setPaymentCount(agentDeals.stream()
-                    .filter(d -> d.getStage() == DealStatus.DealStage.PAYMENT).count());
-
-            performanceList.add(performance);
-        }
+        List<AgentPerformanceDTO> performanceList = dealStatsService.getAgentPerformance();
 
         logger.info("✅ Agent performance metrics calculated for {} agents", performanceList.size());
         return performanceList;
     }
 
+    /**
+     * Agent performance computed live from deal_status with one aggregate query,
+     * for reconciling against the materialized counters
+     */
+    @Transactional(readOnly = true)
+    @AnalyticsWorkload
+    public List<AgentPerformanceDTO> getAgentPerformanceMetricsLive() {
+        logger.info("📈 Aggregating agent performance metrics from deals");
+        return dealStatsService.getAgentPerformanceFromDeals();
+    }
+
+    // ==================== DEAL STATS ====================
+    /**
+     * Deal count per stage, every stage present
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getDealCountsByStage() {
+        return dealStatsService.getDealCountsByStage();
+    }
+
+    /**
+     * Recompute the materialized deal statistics from deal_status
+     */
+    public void rebuildDealStats() {
+        logger.info("📊 Rebuilding deal stats");
+        dealStatsService.rebuild();
+    }
+
     // ==================== GET DEALS BY AGENT (FOR ADMIN) ====================
     /**
      * Get all deals for a specific agent (admin view)
      */
+    @Transactional(readOnly = true)
+    @AnalyticsWorkload
     public List<DealDetailDTO> getDealsByAgentForAdmin(Long agentId) {
         logger.info("👤 Fetching all deals for agent {} (Admin view)", agentId);
 
@@ -469,13 +455,11 @@ public class DealService {
                 break;
         }
 
-        // Append notes with timestamp
-        if (notes != null && !notes.trim().isEmpty()) {
-            String existingNotes = deal.getNotes() != null ? deal.getNotes() : "";
-            String timestamp = java.time.LocalDateTime.now()
-                    .format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
-            String newNotes = existingNotes + "\n[" + timestamp + " - " + updatedBy + "] " + notes;
-            deal.setNotes(newNotes);
+        // History goes to the event log, one row per transition; the notes column only keeps the
+        // latest note, so it stays bounded while list views still show what was just entered
+        String note = notes != null && !notes.trim().isEmpty() ? notes.trim() : null;
+        if (note != null) {
+            deal.setNotes(note);
         }
 
         // Update metadata
@@ -484,6 +468,9 @@ public class DealService {
 
 
         DealStatus updatedDeal = dealStatusRepository.save(deal);
+        dealStatsService.recordStageChange(updatedDeal, oldStage);
+
+        dealStageEventRepository.save(new DealStageEvent(updatedDeal, oldStage, newStage, note, updatedBy));
         logger.info("✅ Deal updated - Stage changed from {} to {}, Stage date updated", oldStage, newStage);
         return updatedDeal;
     }
@@ -500,44 +487,68 @@ public class DealService {
             throw new RuntimeException("User is not an agent");
         }
 
+        Long oldAgentId = deal.getAgent() != null ? deal.getAgent().getId() : null;
         deal.setAgent(agent);
         deal.setLastUpdatedBy(username);
-        return dealStatusRepository.save(deal);
+        DealStatus updatedDeal = dealStatusRepository.save(deal);
+        dealStatsService.recordAgentChange(updatedDeal, oldAgentId);
+        return updatedDeal;
+    }
+
+    /**
+     * One page of a deal's stage and note history, oldest first
+     */
+    @Transactional(readOnly = true)
+    public List<DealStageEventDTO> getDealEvents(Long dealId, Integer page, Integer size) {
+        int pageNumber = page != null && page >= 0 ? page : 0;
+        int pageSize = size != null && size > 0 ? Math.min(size, 100) : 20;
+
+        return dealStageEventRepository.findEventsByDealId(dealId, PageRequest.of(pageNumber, pageSize))
+                .getContent();
     }
 
+    @Transactional(readOnly = true)
     public DealStatus getDealById(Long dealId) {
         return dealStatusRepository.findById(dealId)
                 .orElseThrow(() -> new RuntimeException("Deal not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<DealStatus> getDealsForProperty(Long propertyId) {
         return dealStatusRepository.findByPropertyId(propertyId);
     }
 
+    @Transactional(readOnly = true)
     public List<DealStatus> getDealsForAgent(Long agentId) {
         return dealStatusRepository.findByAgentId(agentId);
     }
 
+    @Transactional(readOnly = true)
     public List<DealStatus> getActiveDealsForAgent(Long agentId) {
         return dealStatusRepository.findActiveDealsForAgent(agentId);
     }
 
+    @Transactional(readOnly = true)
     public List<DealStatus> getBuyerDeals(Long buyerId) {
         return dealStatusRepository.findByBuyerId(buyerId);
     }
 
+    @Transactional(readOnly = true)
     public List<DealStatus> getActiveDealForBuyer(Long buyerId) {
         return dealStatusRepository.findActiveDealForBuyer(buyerId);
     }
 
+    @Transactional(readOnly = true)
     public List<DealStatus> getDealsByStage(DealStatus.DealStage stage) {
         return dealStatusRepository.findByStage(stage);
     }
 
+    @Transactional(readOnly = true)
     public Long getCountByStage(DealStatus.DealStage stage) {
         return dealStatusRepository.countByStage(stage);
     }
 
+    @Transactional(readOnly = true)
     public List<DealStatus> getAgentDealsAtStage(Long agentId, DealStatus.DealStage stage) {
         return dealStatusRepository.findByAgentIdAndStage(agentId, stage);
     }
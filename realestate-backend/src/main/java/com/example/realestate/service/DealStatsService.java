@@ -0,0 +1,222 @@
+package com.example.realestate.service;
+
+import com.example.realestate.config.AnalyticsWorkload;
+import com.example.realestate.dto.AgentPerformanceDTO;
+import com.example.realestate.model.DealStageCounter;
+import com.example.realestate.model.DealStatus;
+import com.example.realestate.model.User;
+import com.example.realestate.repository.DealStageCounterRepository;
+import com.example.realestate.repository.DealStatusRepository;
+import com.example.realestate.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Materialized deal statistics: per-stage counts and agreed-price sums, globally and per agent.
+ * Counters are adjusted in the same transaction as the deal write, so dashboard reads cost
+ * O(stages + agents) instead of a scan over every deal.
+ */
+@Service
+@Transactional
+public class DealStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DealStatsService.class);
+
+    private final DealStageCounterRepository counterRepository;
+    private final DealStatusRepository dealStatusRepository;
+    private final UserRepository userRepository;
+
+    public DealStatsService(DealStageCounterRepository counterRepository,
+                            DealStatusRepository dealStatusRepository,
+                            UserRepository userRepository) {
+        this.counterRepository = counterRepository;
+        this.dealStatusRepository = dealStatusRepository;
+        this.userRepository = userRepository;
+    }
+
+    // ==================== WRITE PATH ====================
+
+    /**
+     * Count a newly created deal at its current stage
+     */
+    public void recordCreated(DealStatus deal) {
+        List<Delta> deltas = new ArrayList<>();
+        add(deltas, agentIdOf(deal), deal.getStage(), 1, deal.getAgreedPrice());
+        apply(deltas);
+    }
+
+    /**
+     * Move a deal's contribution from oldStage to its current stage
+     */
+    public void recordStageChange(DealStatus deal, DealStatus.DealStage oldStage) {
+        if (oldStage == deal.getStage()) {
+            return;
+        }
+        List<Delta> deltas = new ArrayList<>();
+        add(deltas, agentIdOf(deal), oldStage, -1, negate(deal.getAgreedPrice()));
+        add(deltas, agentIdOf(deal), deal.getStage(), 1, deal.getAgreedPrice());
+        apply(deltas);
+    }
+
+    /**
+     * Move a deal's contribution from oldAgentId (null when unassigned) to its current agent
+     */
+    public void recordAgentChange(DealStatus deal, Long oldAgentId) {
+        Long newAgentId = agentIdOf(deal);
+        if (Objects.equals(oldAgentId, newAgentId)) {
+            return;
+        }
+        List<Delta> deltas = new ArrayList<>();
+        if (oldAgentId != null) {
+            deltas.add(new Delta(oldAgentId, deal.getStage(), -1, negate(deal.getAgreedPrice())));
+        }
+        if (newAgentId != null) {
+            deltas.add(new Delta(newAgentId, deal.getStage(), 1, priceOrZero(deal.getAgreedPrice())));
+        }
+        apply(deltas);
+    }
+
+    // ==================== READ PATH ====================
+
+    /**
+     * Deal count per stage, every stage present
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getDealCountsByStage() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (DealStatus.DealStage stage : DealStatus.DealStage.values()) {
+            counts.put(stage.name(), 0L);
+        }
+        for (DealStageCounter counter : counterRepository.findGlobalCounters()) {
+            counts.put(counter.getStage().name(), counter.getDealCount());
+        }
+        return counts;
+    }
+
+    /**
+     * Performance metrics for every AGENT user, built from the per-agent counters
+     */
+    @Transactional(readOnly = true)
+    public List<AgentPerformanceDTO> getAgentPerformance() {
+        Map<Long, Map<DealStatus.DealStage, Long>> countsByAgent = new HashMap<>();
+        Map<Long, BigDecimal> priceSumByAgent = new HashMap<>();
+        for (DealStageCounter counter : counterRepository.findAgentCounters()) {
+            countsByAgent.computeIfAbsent(counter.getAgentId(), id -> new EnumMap<>(DealStatus.DealStage.class))
+                    .put(counter.getStage(), counter.getDealCount());
+            priceSumByAgent.merge(counter.getAgentId(), counter.getAgreedPriceSum(), BigDecimal::add);
+        }
+
+        List<AgentPerformanceDTO> performanceList = new ArrayList<>();
+        for (User agent : userRepository.findByRole(User.UserRole.AGENT)) {
+            performanceList.add(toPerformance(agent,
+                    countsByAgent.getOrDefault(agent.getId(), Collections.emptyMap()),
+                    priceSumByAgent.getOrDefault(agent.getId(), BigDecimal.ZERO)));
+        }
+        return performanceList;
+    }
+
+    private static AgentPerformanceDTO toPerformance(User agent, Map<DealStatus.DealStage, Long> stageCounts,
+                                                     BigDecimal agreedPriceSum) {
+        long totalDeals = 0;
+        for (Long count : stageCounts.values()) {
+            totalDeals += count;
+        }
+        return new AgentPerformanceDTO(agent.getId(), agent.getFirstName(), agent.getLastName(),
+                agent.getEmail(), agent.getMobileNumber(), totalDeals,
+                stageCounts.get(DealStatus.DealStage.INQUIRY),
+                stageCounts.get(DealStatus.DealStage.SHORTLIST),
+                stageCounts.get(DealStatus.DealStage.NEGOTIATION),
+                stageCounts.get(DealStatus.DealStage.AGREEMENT),
+                stageCounts.get(DealStatus.DealStage.REGISTRATION),
+                stageCounts.get(DealStatus.DealStage.PAYMENT),
+                stageCounts.get(DealStatus.DealStage.COMPLETED),
+                agreedPriceSum);
+    }
+
+    /**
+     * Performance metrics for every AGENT user computed live from deal_status in one GROUP BY statement
+     */
+    @Transactional(readOnly = true)
+    @AnalyticsWorkload
+    public List<AgentPerformanceDTO> getAgentPerformanceFromDeals() {
+        return dealStatusRepository.aggregateAgentPerformance(User.UserRole.AGENT);
+    }
+
+    // ==================== REBUILD ====================
+
+    /**
+     * Recompute every counter from deal_status with two set-based inserts.
+     * <p>
+     * Creates and stage changes lock the global row of their stage first (see apply), so holding
+     * every global row parks them until the new counters are committed; their deltas then land
+     * on the rebuilt rows instead of vanishing with the deleted ones. Agent reassignments only
+     * touch agent rows, which the delete locks the same way. A writer already holding a counter
+     * row is waited for, and its deal is counted.
+     */
+    public void rebuild() {
+        for (DealStatus.DealStage stage : DealStatus.DealStage.values()) {
+            // A zero delta takes the row lock, creating the row if the stage has none yet
+            counterRepository.applyDelta(DealStageCounter.GLOBAL, stage.name(), 0, BigDecimal.ZERO);
+        }
+        counterRepository.deleteAllCounters();
+        int globalRows = counterRepository.insertGlobalCountersFromDeals();
+        int agentRows = counterRepository.insertAgentCountersFromDeals();
+        logger.info("📊 Deal stats rebuilt - {} stage rows, {} agent rows", globalRows, agentRows);
+    }
+
+    /**
+     * Seed the counters on first start against an existing deal_status table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (counterRepository.count() == 0 && dealStatusRepository.count() > 0) {
+                logger.info("📊 Deal stats empty, rebuilding from deal_status");
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            // Keep serving; the dashboard reads fail until the table exists
+            logger.error("❌ Could not seed deal stats, run migrations/03_add_deal_stage_counter.sql: {}",
+                    e.getMessage());
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private record Delta(Long agentId, DealStatus.DealStage stage, long count, BigDecimal price) {}
+
+    private static void add(List<Delta> deltas, Long agentId, DealStatus.DealStage stage, long count, BigDecimal price) {
+        deltas.add(new Delta(DealStageCounter.GLOBAL, stage, count, priceOrZero(price)));
+        if (agentId != null) {
+            deltas.add(new Delta(agentId, stage, count, priceOrZero(price)));
+        }
+    }
+
+    // Rows are always locked in (agent, stage) order so concurrent transitions cannot deadlock
+    private void apply(List<Delta> deltas) {
+        deltas.sort(Comparator.comparing(Delta::agentId).thenComparing(Delta::stage));
+        for (Delta delta : deltas) {
+            counterRepository.applyDelta(delta.agentId(), delta.stage().name(), delta.count(), delta.price());
+        }
+    }
+
+    private static Long agentIdOf(DealStatus deal) {
+        return deal.getAgent() != null ? deal.getAgent().getId() : null;
+    }
+
+    private static BigDecimal priceOrZero(BigDecimal price) {
+        return price != null ? price : BigDecimal.ZERO;
+    }
+
+    private static BigDecimal negate(BigDecimal price) {
+        return priceOrZero(price).negate();
+    }
+}
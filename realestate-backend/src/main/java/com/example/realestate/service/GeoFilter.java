@@ -0,0 +1,119 @@
+package com.example.realestate.service;
+
+import com.example.realestate.dto.PropertySearchRequest;
+
+/**
+ * Location part of a PropertySearchRequest, resolved once per request: the box to scan
+ * (the requested bounding box intersected with the box around the radius) and the exact
+ * radius test applied inside it.
+ */
+final class GeoFilter {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+    static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    final double minLatitude;
+    final double maxLatitude;
+    final double minLongitude;
+    final double maxLongitude;
+    // Radius centre and size; radiusKm is NaN when only a bounding box was asked for
+    final double latitude;
+    final double longitude;
+    final double radiusKm;
+
+    private GeoFilter(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude,
+                      double latitude, double longitude, double radiusKm) {
+        this.minLatitude = minLatitude;
+        this.maxLatitude = maxLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLongitude = maxLongitude;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.radiusKm = radiusKm;
+    }
+
+    /**
+     * Null when the request has no location filter
+     */
+    static GeoFilter from(PropertySearchRequest request) {
+        boolean radius = request.getRadiusKm() != null;
+        boolean box = request.getMinLatitude() != null || request.getMaxLatitude() != null
+                || request.getMinLongitude() != null || request.getMaxLongitude() != null;
+        if (!radius && !box) {
+            return null;
+        }
+
+        double minLat = request.getMinLatitude() != null ? request.getMinLatitude() : -90;
+        double maxLat = request.getMaxLatitude() != null ? request.getMaxLatitude() : 90;
+        double minLng = request.getMinLongitude() != null ? request.getMinLongitude() : -180;
+        double maxLng = request.getMaxLongitude() != null ? request.getMaxLongitude() : 180;
+        if (minLat > maxLat || minLng > maxLng) {
+            throw new IllegalArgumentException("Bounding box minimum must not exceed its maximum");
+        }
+
+        double lat = Double.NaN, lng = Double.NaN, radiusKm = Double.NaN;
+        if (radius) {
+            if (request.getLatitude() == null || request.getLongitude() == null) {
+                throw new IllegalArgumentException("radiusKm requires latitude and longitude");
+            }
+            if (request.getRadiusKm() <= 0) {
+                throw new IllegalArgumentException("radiusKm must be positive");
+            }
+            lat = request.getLatitude();
+            lng = request.getLongitude();
+            radiusKm = request.getRadiusKm();
+            if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+                throw new IllegalArgumentException("latitude/longitude out of range");
+            }
+            double dLat = radiusKm / KM_PER_DEGREE;
+            double cos = Math.cos(Math.toRadians(lat));
+            double dLng = cos > 1e-9 ? Math.min(180, dLat / cos) : 180;
+            minLat = Math.max(minLat, lat - dLat);
+            maxLat = Math.min(maxLat, lat + dLat);
+            minLng = Math.max(minLng, lng - dLng);
+            maxLng = Math.min(maxLng, lng + dLng);
+        }
+        return new GeoFilter(minLat, maxLat, minLng, maxLng, lat, lng, radiusKm);
+    }
+
+    boolean hasRadius() {
+        return !Double.isNaN(radiusKm);
+    }
+
+    /**
+     * Box test, then the great-circle distance when a radius was given
+     */
+    boolean matches(double lat, double lng) {
+        if (lat < minLatitude || lat > maxLatitude || lng < minLongitude || lng > maxLongitude) {
+            return false;
+        }
+        return !hasRadius() || distanceKm(latitude, longitude, lat, lng) <= radiusKm;
+    }
+
+    // Parameters for the JPQL fallback, which tests the radius with the equirectangular
+    // approximation, which agrees with the great-circle test to within metres at city scale
+    Double lngScale() {
+        if (!hasRadius()) {
+            return null;
+        }
+        double cos = Math.cos(Math.toRadians(latitude));
+        return cos * cos;
+    }
+
+    Double radiusDegreesSquared() {
+        if (!hasRadius()) {
+            return null;
+        }
+        double degrees = radiusKm / KM_PER_DEGREE;
+        return degrees * degrees;
+    }
+
+    static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -1,17 +1,22 @@
 package com.example.realestate.service;
 
+import com.example.realestate.config.CacheConfig;
+import com.example.realestate.config.PrimaryReads;
+import com.example.realestate.dto.PropertyDTO;
 import com.example.realestate.model.Property;
 import com.example.realestate.model.PropertyImage;
 import com.example.realestate.repository.PropertyImageRepository;
 import com.example.realestate.repository.PropertyRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Service
 @Transactional
@@ -20,11 +25,77 @@ public class PropertyImageService {
     private static final Logger logger = LoggerFactory.getLogger(PropertyImageService.class);
     private final PropertyImageRepository propertyImageRepository;
     private final PropertyRepository propertyRepository;
+    private final PrimaryReads primaryReads;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> primaryImageCache;
 
+    // Cached marker for properties without a primary image (Caffeine does not store nulls)
+    private static final String NO_IMAGE = "";
+
+    @SuppressWarnings("unchecked")
     public PropertyImageService(PropertyImageRepository propertyImageRepository,
-                                PropertyRepository propertyRepository) {
+                                PropertyRepository propertyRepository,
+                                PrimaryReads primaryReads,
+                                CacheManager cacheManager) {
         this.propertyImageRepository = propertyImageRepository;
         this.propertyRepository = propertyRepository;
+        this.primaryReads = primaryReads;
+        // Native cache for bulk getAll; the @CacheEvict annotations below work on the same instance
+        this.primaryImageCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>)
+                cacheManager.getCache(CacheConfig.PRIMARY_IMAGES).getNativeCache();
+    }
+
+    /**
+     * Primary image URL per property id for a page of results. Misses are loaded together
+     * in one query against the primary; properties without a primary image are absent from the result.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getPrimaryImageUrls(Collection<Long> propertyIds) {
+        Map<Object, Object> cached = primaryImageCache.getAll(propertyIds, missing -> {
+            Map<Object, Object> loaded = new HashMap<>();
+            List<Long> ids = new ArrayList<>(missing.size());
+            for (Object id : missing) {
+                ids.add((Long) id);
+            }
+            for (Object[] row : primaryReads.get(() -> propertyImageRepository.findPrimaryImageUrls(ids))) {
+                loaded.putIfAbsent(row[0], row[1]);
+            }
+            for (Object id : missing) {
+                loaded.putIfAbsent(id, NO_IMAGE);
+            }
+            return loaded;
+        });
+
+        Map<Long, String> urls = new HashMap<>();
+        cached.forEach((id, url) -> {
+            if (!NO_IMAGE.equals(url)) {
+                urls.put((Long) id, (String) url);
+            }
+        });
+        return urls;
+    }
+
+    /**
+     * Copies of the DTOs with primaryImageUrl filled in from one batched, cached lookup.
+     * Copies because index results are shared instances.
+     */
+    @Transactional(readOnly = true)
+    public List<PropertyDTO> withPrimaryImages(List<PropertyDTO> properties) {
+        if (properties.isEmpty()) {
+            return properties;
+        }
+        List<Long> ids = new ArrayList<>(properties.size());
+        for (PropertyDTO property : properties) {
+            ids.add(property.getPropertyId());
+        }
+        Map<Long, String> urls = getPrimaryImageUrls(ids);
+
+        List<PropertyDTO> result = new ArrayList<>(properties.size());
+        for (PropertyDTO property : properties) {
+            PropertyDTO copy = new PropertyDTO(property);
+            copy.setPrimaryImageUrl(urls.get(property.getPropertyId()));
+            result.add(copy);
+        }
+        return result;
     }
 
     /**
@@ -47,6 +118,10 @@ public class PropertyImageService {
     /**
      * Add image to property
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRIMARY_IMAGES, key = "#propertyId"),
+            @CacheEvict(cacheNames = CacheConfig.FEATURED_RESPONSES, allEntries = true)
+    })
     public PropertyImage addImageToProperty(Long propertyId, PropertyImage propertyImage) {
         logger.info("Adding image to property ID: {}", propertyId);
 
@@ -56,30 +131,37 @@ public class PropertyImageService {
         propertyImage.setProperty(property);
         propertyImage.setCreatedAt(LocalDateTime.now());
 
-        // If this is the first image, make it primary
-        List<PropertyImage> existingImages = propertyImageRepository.findByPropertyId(propertyId);
-        if (existingImages.isEmpty()) {
+        // If this is the first image, make it primary; otherwise append after the last one
+        Object[] countAndMaxOrder = propertyImageRepository.findImageCountAndMaxOrder(propertyId).get(0);
+        long imageCount = (Long) countAndMaxOrder[0];
+        if (imageCount == 0) {
             propertyImage.setIsPrimary(true);
             propertyImage.setDisplayOrder(0);
         } else {
-            propertyImage.setDisplayOrder(existingImages.size());
+            Integer maxOrder = (Integer) countAndMaxOrder[1];
+            propertyImage.setDisplayOrder(maxOrder != null ? maxOrder + 1 : (int) imageCount);
         }
 
         return propertyImageRepository.save(propertyImage);
     }
 
     /**
-     * Save multiple images for a property
-     * NEW METHOD - This is what was missing!
+     * Save multiple images for a property with multi-row inserts
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRIMARY_IMAGES, key = "#propertyId"),
+            @CacheEvict(cacheNames = CacheConfig.FEATURED_RESPONSES, allEntries = true)
+    })
     public List<PropertyImage> saveImages(Long propertyId, List<PropertyImageRequest> imageRequests) {
         logger.info("Saving {} images for property ID: {}", imageRequests.size(), propertyId);
 
-        Property property = propertyRepository.findById(propertyId)
-                .orElseThrow(() -> new RuntimeException("Property not found with id: " + propertyId));
-
-        List<PropertyImage> savedImages = new ArrayList<>();
+        if (!propertyRepository.existsById(propertyId)) {
+            throw new RuntimeException("Property not found with id: " + propertyId);
+        }
+        Property property = propertyRepository.getReferenceById(propertyId);
+        LocalDateTime now = LocalDateTime.now();
 
+        List<PropertyImage> images = new ArrayList<>(imageRequests.size());
         for (int i = 0; i < imageRequests.size(); i++) {
             PropertyImageRequest request = imageRequests.get(i);
 
@@ -88,39 +170,38 @@ public class PropertyImageService {
             image.setImageUrl(request.getImageUrl());
             image.setIsPrimary(request.getIsPrimary() != null ? request.getIsPrimary() : (i == 0));
             image.setDisplayOrder(request.getDisplayOrder() != null ? request.getDisplayOrder() : i);
-            image.setCreatedAt(LocalDateTime.now());
-
-            savedImages.add(propertyImageRepository.save(image));
+            image.setCreatedAt(now);
+            images.add(image);
         }
 
-        logger.info("Successfully saved {} images", savedImages.size());
-        return savedImages;
+        propertyImageRepository.insertAll(images);
+
+        logger.info("Successfully saved {} images", images.size());
+        return images;
     }
 
     /**
      * Set image as primary
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRIMARY_IMAGES, key = "#propertyId"),
+            @CacheEvict(cacheNames = CacheConfig.FEATURED_RESPONSES, allEntries = true)
+    })
     public void setPrimaryImage(Long propertyId, Integer imageId) {
         logger.info("Setting image {} as primary for property {}", imageId, propertyId);
 
-        // Remove primary status from all images of this property
-        List<PropertyImage> images = propertyImageRepository.findByPropertyId(propertyId);
-        for (PropertyImage img : images) {
-            img.setIsPrimary(false);
-            propertyImageRepository.save(img);
+        if (!propertyImageRepository.existsByImageIdAndPropertyId(imageId, propertyId)) {
+            throw new RuntimeException("Image not found with id: " + imageId);
         }
 
-        // Set the selected image as primary
-        PropertyImage primaryImage = propertyImageRepository.findById(imageId)
-                .orElseThrow(() -> new RuntimeException("Image not found with id: " + imageId));
-
-        primaryImage.setIsPrimary(true);
-        propertyImageRepository.save(primaryImage);
+        // One UPDATE sets the chosen image and clears every other image of the property
+        propertyImageRepository.switchPrimaryImage(propertyId, imageId);
     }
 
     /**
      * Delete image
      */
+    @CacheEvict(cacheNames = {CacheConfig.PRIMARY_IMAGES, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public void deleteImage(Integer imageId) {
         logger.info("Deleting image with ID: {}", imageId);
         PropertyImage image = propertyImageRepository.findById(imageId)
@@ -145,6 +226,10 @@ public class PropertyImageService {
     /**
      * Delete all images for a property
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRIMARY_IMAGES, key = "#propertyId"),
+            @CacheEvict(cacheNames = CacheConfig.FEATURED_RESPONSES, allEntries = true)
+    })
     public void deleteAllImagesByPropertyId(Long propertyId) {
         logger.info("Deleting all images for property ID: {}", propertyId);
         propertyImageRepository.deleteByPropertyId(propertyId);
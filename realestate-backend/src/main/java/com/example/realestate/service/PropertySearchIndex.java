@@ -0,0 +1,853 @@
+package com.example.realestate.service;
+
+import com.example.realestate.dto.PropertyDTO;
+import com.example.realestate.dto.PropertySearchRequest;
+import com.example.realestate.dto.PropertySearchResultDTO;
+import com.example.realestate.dto.PropertySliceDTO;
+import com.example.realestate.model.Property;
+import com.example.realestate.repository.PropertyRepository;
+import com.example.realestate.util.TextAnalyzer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.RoundingMode;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index over active properties.
+ * Answers PropertySearchRequest filters, sorting and paging without touching the database.
+ * Free-text queries match any analyzed term of title, description, address or amenities and
+ * are ranked by BM25, with the requested sort breaking ties. Radius and bounding-box filters scan
+ * a grid of latitude/longitude cells kept as sorted arrays, one binary search per cell row.
+ * Disabled unless search.index.enabled=true; when disabled (or still loading) search()
+ * returns null and callers fall back to the JPQL query.
+ */
+@Component
+public class PropertySearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertySearchIndex.class);
+
+    private final PropertyRepository propertyRepository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+    // Changes committed while rebuild() reads the table, replayed over its snapshot; null otherwise
+    private List<Runnable> changesDuringRebuild;
+
+    // Slot storage - a property lives in one slot, freed slots are reused
+    private Doc[] docs = new Doc[1024];
+    private int slotCount = 0;
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final BitSet live = new BitSet();
+
+    // Posting lists, keyed by lower-cased value (MySQL default collation is case-insensitive)
+    private final Map<String, BitSet> byType = new HashMap<>();
+    private final Map<String, BitSet> byCity = new HashMap<>();
+    private final Map<String, BitSet> byArea = new HashMap<>();
+    private final Map<String, BitSet> byListingType = new HashMap<>();
+    private final Map<String, BitSet> byOwnerType = new HashMap<>();
+    private final BitSet verifiedTrue = new BitSet();
+    private final BitSet verifiedFalse = new BitSet();
+    private final BitSet readyToMoveTrue = new BitSet();
+    private final BitSet readyToMoveFalse = new BitSet();
+
+    // Text postings: analyzed term -> slots containing it; term frequencies live on the Doc
+    private final Map<String, BitSet> byTerm = new HashMap<>();
+    private long totalTermCount = 0;
+    private static final double BM25_K1 = 1.2;
+    private static final double BM25_B = 0.75;
+    // Title terms count this many times, so a keyword in the title outranks one in the description
+    private static final int TITLE_WEIGHT = 2;
+
+    // Sorted arrays for range filters, rebuilt lazily after writes
+    private volatile boolean sortedDirty = true;
+    private int[] slotsByPrice = new int[0];
+    private long[] sortedPrices = new long[0];
+    private int[] slotsByBedrooms = new int[0];
+    private int[] sortedBedrooms = new int[0];
+    // Located docs ordered by grid cell: (latitude row << 32 | longitude column)
+    private int[] slotsByGeoCell = new int[0];
+    private long[] sortedGeoCells = new long[0];
+    private final double geoCellDegrees;
+
+    public PropertySearchIndex(PropertyRepository propertyRepository,
+                               @Value("${search.index.enabled:false}") boolean enabled,
+                               @Value("${search.index.geo-cell-degrees:0.01}") double geoCellDegrees) {
+        this.propertyRepository = propertyRepository;
+        this.enabled = enabled;
+        this.geoCellDegrees = geoCellDegrees;
+    }
+
+    /**
+     * Load every active property once the application is up.
+     * Changes that commit while the table is being read are recorded and replayed over the
+     * new contents, so they are not lost when the index is cleared.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            logger.info("Property search index disabled");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<Runnable> changes = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int indexed;
+        try {
+            List<Property> properties = propertyRepository.findActiveWithDetails();
+            indexed = properties.size();
+
+            lock.writeLock().lock();
+            try {
+                clear();
+                for (Property property : properties) {
+                    put(toDoc(property));
+                }
+                // Each change removes and re-puts whole documents, so replaying one the snapshot
+                // already contains is harmless
+                changes.forEach(Runnable::run);
+                sortedDirty = true;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (changesDuringRebuild == changes) {
+                    changesDuringRebuild = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        logger.info("Property search index built with {} properties in {} ms",
+                indexed, System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    /**
+     * Add or replace a property. Applied after the surrounding transaction commits.
+     * Inactive properties are removed from the index.
+     */
+    public void onPropertySaved(Property property) {
+        if (!enabled || property == null || property.getId() == null) {
+            return;
+        }
+        Long id = property.getId();
+        Doc doc = Boolean.TRUE.equals(property.getIsActive()) ? toDoc(property) : null;
+        afterCommit(() -> apply(() -> {
+            remove(id);
+            if (doc != null) {
+                put(doc);
+            }
+        }));
+    }
+
+    /**
+     * Re-index the active properties of an area whose name or centroid changed. The properties
+     * are read in the surrounding transaction, after the area update, and applied once it commits.
+     */
+    public void onAreaSaved(Integer areaId) {
+        if (!enabled || areaId == null) {
+            return;
+        }
+        List<Doc> docs = propertyRepository.findActiveWithDetailsByAreaId(areaId).stream()
+                .map(this::toDoc)
+                .toList();
+        afterCommit(() -> apply(() -> {
+            for (Doc doc : docs) {
+                remove(doc.id);
+                put(doc);
+            }
+        }));
+    }
+
+    /**
+     * Remove a property. Applied after the surrounding transaction commits.
+     */
+    public void onPropertyRemoved(Long propertyId) {
+        if (!enabled || propertyId == null) {
+            return;
+        }
+        afterCommit(() -> apply(() -> remove(propertyId)));
+    }
+
+    /**
+     * Apply a committed change under the write lock, keeping it for replay if a rebuild is reading
+     */
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+            sortedDirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== QUERY ====================
+
+    /**
+     * Run a search against the index.
+     * Returns null when the index cannot answer (disabled, not built, unsupported sort field).
+     */
+    public List<PropertyDTO> search(PropertySearchRequest request) {
+        if (!isReady()) {
+            return null;
+        }
+        Comparator<Doc> order = comparatorFor(request.getSortBy(), request.getSortOrder());
+        if (order == null) {
+            return null;
+        }
+        lockForQuery();
+        try {
+            BitSet matches = filter(request);
+            int page = request.getPage() != null ? Math.max(request.getPage(), 0) : 0;
+            int size = request.getSize() != null ? Math.max(request.getSize(), 0) : 20;
+            return page(matches, rankedOrder(request, matches, order), page, size, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Same as search(), plus facet counts over the whole filtered set computed in the same pass.
+     * Returns null when the index cannot answer.
+     */
+    public PropertySearchResultDTO searchWithFacets(PropertySearchRequest request) {
+        if (!isReady()) {
+            return null;
+        }
+        Comparator<Doc> order = comparatorFor(request.getSortBy(), request.getSortOrder());
+        if (order == null) {
+            return null;
+        }
+        lockForQuery();
+        try {
+            BitSet matches = filter(request);
+            int page = request.getPage() != null ? Math.max(request.getPage(), 0) : 0;
+            int size = request.getSize() != null ? Math.max(request.getSize(), 0) : 20;
+            PropertySearchResultDTO result = new PropertySearchResultDTO();
+            result.setProperties(page(matches, rankedOrder(request, matches, order), page, size, result));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keyset page of the createdAt DESC order: up to size matches strictly after the cursor.
+     * Returns null when the index cannot answer.
+     */
+    public PropertySliceDTO searchAfter(PropertySearchRequest request, PropertySliceDTO.Cursor cursor, int size) {
+        if (!isReady()) {
+            return null;
+        }
+        Comparator<Doc> order = comparatorFor("createdAt", "DESC");
+        Doc after = null;
+        if (cursor != null) {
+            after = new Doc();
+            after.id = cursor.getId();
+            after.createdAt = cursor.getCreatedAt() != null
+                    ? cursor.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                    : null;
+        }
+
+        lockForQuery();
+        try {
+            BitSet matches = filter(request);
+            int k = size + 1;
+            PriorityQueue<Doc> top = new PriorityQueue<>(k, order.reversed());
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                Doc doc = docs[slot];
+                if (after != null && order.compare(doc, after) <= 0) {
+                    continue;
+                }
+                if (top.size() < k) {
+                    top.add(doc);
+                } else if (order.compare(doc, top.peek()) < 0) {
+                    top.poll();
+                    top.add(doc);
+                }
+            }
+
+            Doc[] sorted = top.toArray(new Doc[0]);
+            Arrays.sort(sorted, order);
+            List<PropertyDTO> content = new ArrayList<>(Math.min(size, sorted.length));
+            for (int i = 0; i < sorted.length && i < size; i++) {
+                content.add(sorted[i].dto);
+            }
+            String nextCursor = null;
+            if (sorted.length > size && size > 0) {
+                PropertyDTO last = content.get(content.size() - 1);
+                nextCursor = new PropertySliceDTO.Cursor(last.getCreatedAt(), last.getPropertyId()).encode();
+            }
+            return new PropertySliceDTO(content, nextCursor, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    BitSet filter(PropertySearchRequest request) {
+        BitSet result = (BitSet) live.clone();
+
+        if (request.getPropertyType() != null) {
+            result.and(posting(byType, request.getPropertyType()));
+        }
+        if (request.getCity() != null) {
+            result.and(posting(byCity, request.getCity()));
+        }
+        if (request.getArea() != null) {
+            result.and(posting(byArea, request.getArea()));
+        }
+        if (request.getListingType() != null) {
+            result.and(posting(byListingType, request.getListingType()));
+        }
+        if (request.getOwnerType() != null) {
+            result.and(posting(byOwnerType, request.getOwnerType()));
+        }
+        if (request.getIsVerified() != null) {
+            result.and(request.getIsVerified() ? verifiedTrue : verifiedFalse);
+        }
+        if (request.getIsReadyToMove() != null) {
+            result.and(request.getIsReadyToMove() ? readyToMoveTrue : readyToMoveFalse);
+        }
+        if (request.getMinPrice() != null || request.getMaxPrice() != null) {
+            long lo = request.getMinPrice() != null
+                    ? request.getMinPrice().setScale(2, RoundingMode.CEILING).unscaledValue().longValue()
+                    : Long.MIN_VALUE;
+            long hi = request.getMaxPrice() != null
+                    ? request.getMaxPrice().setScale(2, RoundingMode.FLOOR).unscaledValue().longValue()
+                    : Long.MAX_VALUE;
+            result.and(range(slotsByPrice, lowerBound(sortedPrices, lo), upperBound(sortedPrices, hi)));
+        }
+        if (request.getMinBedrooms() != null || request.getMaxBedrooms() != null) {
+            int lo = request.getMinBedrooms() != null ? request.getMinBedrooms() : Integer.MIN_VALUE;
+            int hi = request.getMaxBedrooms() != null ? request.getMaxBedrooms() : Integer.MAX_VALUE;
+            result.and(range(slotsByBedrooms, lowerBound(sortedBedrooms, lo), upperBound(sortedBedrooms, hi)));
+        }
+        GeoFilter geo = GeoFilter.from(request);
+        if (geo != null) {
+            result.and(withinGeo(geo));
+        }
+        Set<String> queryTerms = queryTerms(request);
+        if (!queryTerms.isEmpty()) {
+            BitSet anyTerm = new BitSet();
+            for (String term : queryTerms) {
+                BitSet postings = byTerm.get(term);
+                if (postings != null) {
+                    anyTerm.or(postings);
+                }
+            }
+            result.and(anyTerm);
+        }
+        return result;
+    }
+
+    /**
+     * Slots inside the filter's box (and radius): one binary search per grid row the box spans,
+     * then an exact test of each point in the row's column range
+     */
+    private BitSet withinGeo(GeoFilter geo) {
+        BitSet bits = new BitSet();
+        long firstRow = geoRow(geo.minLatitude), lastRow = geoRow(geo.maxLatitude);
+        long firstColumn = geoColumn(geo.minLongitude), lastColumn = geoColumn(geo.maxLongitude);
+        for (long row = firstRow; row <= lastRow; row++) {
+            int from = lowerBound(sortedGeoCells, row << 32 | firstColumn);
+            int to = upperBound(sortedGeoCells, row << 32 | lastColumn);
+            for (int i = from; i < to; i++) {
+                Doc doc = docs[slotsByGeoCell[i]];
+                if (geo.matches(doc.latitude, doc.longitude)) {
+                    bits.set(doc.slot);
+                }
+            }
+        }
+        return bits;
+    }
+
+    private long geoRow(double latitude) {
+        return (long) Math.floor((latitude + 90) / geoCellDegrees);
+    }
+
+    private long geoColumn(double longitude) {
+        return (long) Math.floor((longitude + 180) / geoCellDegrees);
+    }
+
+    /**
+     * BM25 relevance first when the request has a text query, then the requested order
+     */
+    private Comparator<Doc> rankedOrder(PropertySearchRequest request, BitSet matches, Comparator<Doc> order) {
+        Set<String> queryTerms = queryTerms(request);
+        if (queryTerms.isEmpty()) {
+            return order;
+        }
+        int docCount = slotById.size();
+        double avgLength = docCount > 0 ? Math.max(1.0, (double) totalTermCount / docCount) : 1.0;
+        double[] scores = new double[slotCount];
+        for (String term : queryTerms) {
+            BitSet postings = byTerm.get(term);
+            if (postings == null) {
+                continue;
+            }
+            int df = postings.cardinality();
+            double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            for (int slot = postings.nextSetBit(0); slot >= 0; slot = postings.nextSetBit(slot + 1)) {
+                if (!matches.get(slot)) {
+                    continue;
+                }
+                Doc doc = docs[slot];
+                int tf = doc.termFrequency(term);
+                double norm = BM25_K1 * (1 - BM25_B + BM25_B * doc.termCount / avgLength);
+                scores[slot] += idf * tf * (BM25_K1 + 1) / (tf + norm);
+            }
+        }
+        Comparator<Doc> relevance = Comparator.comparingDouble((Doc d) -> scores[d.slot]).reversed();
+        return relevance.thenComparing(order);
+    }
+
+    private static Set<String> queryTerms(PropertySearchRequest request) {
+        if (request.getQuery() == null || request.getQuery().isBlank()) {
+            return Collections.emptySet();
+        }
+        return new LinkedHashSet<>(TextAnalyzer.terms(request.getQuery()));
+    }
+
+    /**
+     * Pick one page of matches. When facets is not null every match is also counted into it.
+     */
+    private List<PropertyDTO> page(BitSet matches, Comparator<Doc> order, int page, int size,
+                                   PropertySearchResultDTO facets) {
+        long offset = (long) page * size;
+        int total = matches.cardinality();
+        // An empty page keeps no heap; with facets the matches are still walked to count them
+        int k = size == 0 || offset >= total ? 0 : (int) Math.min(offset + size, total);
+        if (facets == null && k == 0) {
+            return new ArrayList<>();
+        }
+
+        // Keep only the best k documents: the heap head is the worst one kept so far
+        PriorityQueue<Doc> top = new PriorityQueue<>(Math.max(k, 1), order.reversed());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            Doc doc = docs[slot];
+            if (facets != null) {
+                facets.addToFacets(doc.dto.getCityName(), doc.dto.getAreaName(), doc.dto.getPropertyType(),
+                        doc.bedrooms, doc.priceBucket, 1);
+            }
+            if (k == 0) {
+                continue;
+            }
+            if (top.size() < k) {
+                top.add(doc);
+            } else if (order.compare(doc, top.peek()) < 0) {
+                top.poll();
+                top.add(doc);
+            }
+        }
+
+        Doc[] sorted = top.toArray(new Doc[0]);
+        Arrays.sort(sorted, order);
+        List<PropertyDTO> result = new ArrayList<>(size);
+        for (int i = (int) offset; i < sorted.length; i++) {
+            result.add(sorted[i].dto);
+        }
+        return result;
+    }
+
+    /**
+     * MySQL ordering: NULLs first for ASC, last for DESC. Ties broken by id.
+     */
+    private Comparator<Doc> comparatorFor(String sortBy, String sortOrder) {
+        Comparator<Doc> key;
+        switch (sortBy != null ? sortBy : "createdAt") {
+            case "createdAt":
+                key = Comparator.comparing((Doc d) -> d.createdAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+                break;
+            case "price":
+                key = Comparator.comparing((Doc d) -> d.price, Comparator.nullsFirst(Comparator.naturalOrder()));
+                break;
+            case "bedrooms":
+                key = Comparator.comparing((Doc d) -> d.bedrooms, Comparator.nullsFirst(Comparator.naturalOrder()));
+                break;
+            case "areaSqft":
+                key = Comparator.comparing((Doc d) -> d.dto.getAreaSqft(), Comparator.nullsFirst(Comparator.naturalOrder()));
+                break;
+            case "id":
+                key = Comparator.comparingLong((Doc d) -> d.id);
+                break;
+            default:
+                return null;
+        }
+        Comparator<Doc> order = key.thenComparingLong(d -> d.id);
+        return "ASC".equalsIgnoreCase(sortOrder) ? order : order.reversed();
+    }
+
+    // ==================== INTERNALS ====================
+
+    private static final class Doc {
+        int slot;
+        long id;
+        PropertyDTO dto;
+        Long createdAt;
+        Long price;
+        Integer bedrooms;
+        String priceBucket;
+        List<String> typeKeys = new ArrayList<>(2);
+        List<String> cityKeys = new ArrayList<>(2);
+        String areaKey;
+        String listingTypeKey;
+        String ownerTypeKey;
+        Boolean verified;
+        Boolean readyToMove;
+        // Own coordinates, else the area centroid; NaN when neither is known
+        double latitude = Double.NaN;
+        double longitude = Double.NaN;
+        // Distinct analyzed terms, sorted, with their frequencies; termCount is the weighted total
+        String[] terms = new String[0];
+        int[] termFrequencies = new int[0];
+        int termCount;
+
+        int termFrequency(String term) {
+            int i = Arrays.binarySearch(terms, term);
+            return i >= 0 ? termFrequencies[i] : 0;
+        }
+    }
+
+    private Doc toDoc(Property property) {
+        Doc doc = new Doc();
+        doc.id = property.getId();
+        doc.dto = PropertySearchService.convertToDTO(property);
+        doc.createdAt = property.getCreatedAt() != null
+                ? property.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : null;
+        doc.price = property.getPrice() != null
+                ? property.getPrice().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue() : null;
+        doc.bedrooms = property.getBedrooms();
+        doc.priceBucket = PropertySearchResultDTO.priceBucket(property.getPrice());
+
+        // Mirrors the JPQL: pt.typeName = :propertyType OR p.type = :propertyType
+        if (property.getPropertyType() != null) {
+            addKey(doc.typeKeys, property.getPropertyType().getTypeName());
+        }
+        addKey(doc.typeKeys, property.getType());
+
+        // Mirrors the JPQL: c.cityName = :city OR p.city = :city
+        if (property.getArea() != null) {
+            if (property.getArea().getCity() != null) {
+                addKey(doc.cityKeys, property.getArea().getCity().getCityName());
+            }
+            doc.areaKey = key(property.getArea().getAreaName());
+        }
+        addKey(doc.cityKeys, property.getCity());
+
+        doc.listingTypeKey = key(property.getListingType());
+        doc.ownerTypeKey = key(property.getOwnerType());
+        doc.verified = property.getIsVerified();
+        doc.readyToMove = property.getIsReadyToMove();
+        if (property.getLatitude() != null && property.getLongitude() != null) {
+            doc.latitude = property.getLatitude();
+            doc.longitude = property.getLongitude();
+        } else if (property.getArea() != null && property.getArea().getLatitude() != null
+                && property.getArea().getLongitude() != null) {
+            doc.latitude = property.getArea().getLatitude();
+            doc.longitude = property.getArea().getLongitude();
+        }
+
+        TreeMap<String, Integer> frequencies = new TreeMap<>();
+        for (String term : TextAnalyzer.terms(property.getTitle())) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String text : new String[]{property.getDescription(), property.getAddress(), property.getAmenities()}) {
+            for (String term : TextAnalyzer.terms(text)) {
+                frequencies.merge(term, 1, Integer::sum);
+            }
+        }
+        doc.terms = frequencies.keySet().toArray(new String[0]);
+        doc.termFrequencies = new int[doc.terms.length];
+        int i = 0;
+        for (int frequency : frequencies.values()) {
+            doc.termFrequencies[i++] = frequency;
+            doc.termCount += frequency;
+        }
+        return doc;
+    }
+
+    private void put(Doc doc) {
+        int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.pop();
+        } else {
+            if (slotCount == docs.length) {
+                docs = Arrays.copyOf(docs, docs.length * 2);
+            }
+            slot = slotCount++;
+        }
+        doc.slot = slot;
+        docs[slot] = doc;
+        slotById.put(doc.id, slot);
+        live.set(slot);
+
+        for (String type : doc.typeKeys) {
+            byType.computeIfAbsent(type, k -> new BitSet()).set(slot);
+        }
+        for (String city : doc.cityKeys) {
+            byCity.computeIfAbsent(city, k -> new BitSet()).set(slot);
+        }
+        setPosting(byArea, doc.areaKey, slot);
+        setPosting(byListingType, doc.listingTypeKey, slot);
+        setPosting(byOwnerType, doc.ownerTypeKey, slot);
+        if (doc.verified != null) {
+            (doc.verified ? verifiedTrue : verifiedFalse).set(slot);
+        }
+        if (doc.readyToMove != null) {
+            (doc.readyToMove ? readyToMoveTrue : readyToMoveFalse).set(slot);
+        }
+        for (String term : doc.terms) {
+            byTerm.computeIfAbsent(term, k -> new BitSet()).set(slot);
+        }
+        totalTermCount += doc.termCount;
+    }
+
+    private void remove(Long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        Doc doc = docs[slot];
+        for (String type : doc.typeKeys) {
+            clearPosting(byType, type, slot);
+        }
+        for (String city : doc.cityKeys) {
+            clearPosting(byCity, city, slot);
+        }
+        clearPosting(byArea, doc.areaKey, slot);
+        clearPosting(byListingType, doc.listingTypeKey, slot);
+        clearPosting(byOwnerType, doc.ownerTypeKey, slot);
+        verifiedTrue.clear(slot);
+        verifiedFalse.clear(slot);
+        readyToMoveTrue.clear(slot);
+        readyToMoveFalse.clear(slot);
+        for (String term : doc.terms) {
+            clearPosting(byTerm, term, slot);
+        }
+        totalTermCount -= doc.termCount;
+        live.clear(slot);
+        docs[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private void clear() {
+        Arrays.fill(docs, null);
+        slotCount = 0;
+        freeSlots.clear();
+        slotById.clear();
+        live.clear();
+        byType.clear();
+        byCity.clear();
+        byArea.clear();
+        byListingType.clear();
+        byOwnerType.clear();
+        verifiedTrue.clear();
+        verifiedFalse.clear();
+        readyToMoveTrue.clear();
+        readyToMoveFalse.clear();
+        byTerm.clear();
+        totalTermCount = 0;
+    }
+
+    /**
+     * Take the read lock with up-to-date range arrays.
+     * The arrays are rebuilt under the write lock, so retry if a write lands in between.
+     */
+    private void lockForQuery() {
+        while (true) {
+            ensureSorted();
+            lock.readLock().lock();
+            if (!sortedDirty) {
+                return;
+            }
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureSorted() {
+        if (!sortedDirty) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!sortedDirty) {
+                return;
+            }
+            List<Doc> withPrice = new ArrayList<>();
+            List<Doc> withBedrooms = new ArrayList<>();
+            List<Doc> located = new ArrayList<>();
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                if (docs[slot].price != null) withPrice.add(docs[slot]);
+                if (docs[slot].bedrooms != null) withBedrooms.add(docs[slot]);
+                if (!Double.isNaN(docs[slot].latitude)) located.add(docs[slot]);
+            }
+            withPrice.sort(Comparator.comparingLong(d -> d.price));
+            withBedrooms.sort(Comparator.comparingInt(d -> d.bedrooms));
+
+            slotsByPrice = new int[withPrice.size()];
+            sortedPrices = new long[withPrice.size()];
+            for (int i = 0; i < withPrice.size(); i++) {
+                slotsByPrice[i] = withPrice.get(i).slot;
+                sortedPrices[i] = withPrice.get(i).price;
+            }
+            slotsByBedrooms = new int[withBedrooms.size()];
+            sortedBedrooms = new int[withBedrooms.size()];
+            for (int i = 0; i < withBedrooms.size(); i++) {
+                slotsByBedrooms[i] = withBedrooms.get(i).slot;
+                sortedBedrooms[i] = withBedrooms.get(i).bedrooms;
+            }
+
+            long[] cells = new long[located.size()];
+            Integer[] order = new Integer[located.size()];
+            for (int i = 0; i < located.size(); i++) {
+                Doc doc = located.get(i);
+                cells[i] = geoRow(doc.latitude) << 32 | geoColumn(doc.longitude);
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingLong(i -> cells[i]));
+            slotsByGeoCell = new int[order.length];
+            sortedGeoCells = new long[order.length];
+            for (int i = 0; i < order.length; i++) {
+                slotsByGeoCell[i] = located.get(order[i]).slot;
+                sortedGeoCells[i] = cells[order[i]];
+            }
+            sortedDirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static BitSet range(int[] slots, int from, int to) {
+        BitSet bits = new BitSet();
+        for (int i = from; i < to; i++) {
+            bits.set(slots[i]);
+        }
+        return bits;
+    }
+
+    /** First index with value >= target */
+    private static int lowerBound(long[] values, long target) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < target) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    /** First index with value > target */
+    private static int upperBound(long[] values, long target) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] <= target) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int lowerBound(int[] values, int target) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < target) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int upperBound(int[] values, int target) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] <= target) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private static BitSet posting(Map<String, BitSet> postings, String value) {
+        BitSet bits = postings.get(key(value));
+        return bits != null ? bits : new BitSet();
+    }
+
+    private static void setPosting(Map<String, BitSet> postings, String key, int slot) {
+        if (key != null) {
+            postings.computeIfAbsent(key, k -> new BitSet()).set(slot);
+        }
+    }
+
+    private static void clearPosting(Map<String, BitSet> postings, String key, int slot) {
+        if (key == null) {
+            return;
+        }
+        BitSet bits = postings.get(key);
+        if (bits != null) {
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static void addKey(List<String> keys, String value) {
+        String key = key(value);
+        if (key != null && !keys.contains(key)) {
+            keys.add(key);
+        }
+    }
+
+    private static String key(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
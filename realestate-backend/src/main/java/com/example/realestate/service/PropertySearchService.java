@@ -1,20 +1,24 @@
 package com.example.realestate.service;
 
+import com.example.realestate.config.RowsLoaded;
 import com.example.realestate.dto.PropertyDTO;
 import com.example.realestate.dto.PropertySearchRequest;
+import com.example.realestate.dto.PropertySearchResultDTO;
+import com.example.realestate.dto.PropertySliceDTO;
 import com.example.realestate.model.Property;
 import com.example.realestate.repository.PropertyRepository;
+import com.example.realestate.repository.PropertySearchCriteria;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -22,16 +26,32 @@ public class PropertySearchService {
 
     private static final Logger logger = LoggerFactory.getLogger(PropertySearchService.class);
     private final PropertyRepository propertyRepository;
+    private final PropertySearchIndex propertySearchIndex;
+    private final ConfigurationSnapshotHolder configuration;
+    private final PropertyImageService propertyImageService;
 
-    public PropertySearchService(PropertyRepository propertyRepository) {
+    public PropertySearchService(PropertyRepository propertyRepository, PropertySearchIndex propertySearchIndex,
+                                 ConfigurationSnapshotHolder configuration, PropertyImageService propertyImageService) {
         this.propertyRepository = propertyRepository;
+        this.propertySearchIndex = propertySearchIndex;
+        this.configuration = configuration;
+        this.propertyImageService = propertyImageService;
     }
 
     /**
      * Search properties based on multiple filters
      */
+    @RowsLoaded("property.search")
     public List<PropertyDTO> searchProperties(PropertySearchRequest request) {
         logger.info("Searching properties with request: {}", request);
+        clampPageSize(request);
+
+        // Served from the in-memory index when it is enabled and can answer the request
+        List<PropertyDTO> indexed = propertySearchIndex.search(request);
+        if (indexed != null) {
+            logger.info("Found {} properties (index)", indexed.size());
+            return propertyImageService.withPrimaryImages(indexed);
+        }
 
         Sort sort = Sort.by(
                 request.getSortOrder().equalsIgnoreCase("ASC") ?
@@ -45,26 +65,158 @@ public class PropertySearchService {
                 sort
         );
 
-        Page<Property> propertyPage = propertyRepository.searchProperties(
-                request.getPropertyType(),
-                request.getMinPrice(),
-                request.getMaxPrice(),
-                request.getCity(),
-                request.getArea(),
-                request.getListingType(),
-                request.getMinBedrooms(),
-                request.getMaxBedrooms(),
-                request.getIsVerified(),
-                request.getOwnerType(),
-                request.getIsReadyToMove(),
-                pageable
+        // Keyword searches go through the FULLTEXT index, most relevant first
+        Slice<PropertyDTO> propertySlice = propertyRepository.searchProperties(criteria(request), pageable);
+
+        logger.info("Found {} properties", propertySlice.getNumberOfElements());
+
+        return propertyImageService.withPrimaryImages(propertySlice.getContent());
+    }
+
+    /**
+     * Search properties and return facet counts (city, area, type, bedrooms, price range)
+     * over the whole filtered set next to the requested page
+     */
+    public PropertySearchResultDTO searchPropertiesWithFacets(PropertySearchRequest request) {
+        logger.info("Faceted search with request: {}", request);
+        clampPageSize(request);
+
+        PropertySearchResultDTO indexed = propertySearchIndex.searchWithFacets(request);
+        if (indexed != null) {
+            logger.info("Found {} properties (index)", indexed.getTotalCount());
+            indexed.setProperties(propertyImageService.withPrimaryImages(indexed.getProperties()));
+            return indexed;
+        }
+
+        PropertySearchResultDTO result = new PropertySearchResultDTO();
+        result.setProperties(searchProperties(request));
+
+        // One GROUP BY over the filtered set feeds every facet
+        List<Object[]> rows = propertyRepository.searchFacetCounts(criteria(request));
+        for (Object[] row : rows) {
+            int bucket = ((Number) row[4]).intValue();
+            result.addToFacets((String) row[0], (String) row[1], (String) row[2], (Integer) row[3],
+                    bucket >= 0 ? PropertySearchResultDTO.PRICE_BUCKET_LABELS[bucket] : null,
+                    ((Number) row[5]).longValue());
+        }
+
+        logger.info("Computed facets over {} properties", result.getTotalCount());
+        return result;
+    }
+
+    /**
+     * Keyset (cursor) search over the createdAt DESC order.
+     * Skips both OFFSET and the COUNT query, so deep pages cost the same as the first one.
+     */
+    public PropertySliceDTO scrollProperties(PropertySearchRequest request) {
+        logger.info("Cursor search with request: {}", request);
+
+        if ((request.getSortBy() != null && !"createdAt".equals(request.getSortBy()))
+                || (request.getSortOrder() != null && !"DESC".equalsIgnoreCase(request.getSortOrder()))) {
+            throw new IllegalArgumentException("Cursor pagination only supports sortBy=createdAt, sortOrder=DESC");
+        }
+        clampPageSize(request);
+        int size = request.getSize();
+        PropertySliceDTO.Cursor cursor = PropertySliceDTO.Cursor.decode(request.getCursor());
+
+        PropertySliceDTO indexed = propertySearchIndex.searchAfter(request, cursor, size);
+        if (indexed != null) {
+            indexed.setContent(propertyImageService.withPrimaryImages(indexed.getContent()));
+            return indexed;
+        }
+
+        // Fetch one extra row to learn whether another slice exists
+        List<PropertyDTO> rows = propertyRepository.searchPropertiesAfter(
+                criteria(request),
+                cursor != null ? cursor.getCreatedAt() : null,
+                cursor != null ? cursor.getId() : null,
+                size + 1);
+        return toSlice(rows, size);
+    }
+
+    /**
+     * Newest-first feed of all active properties, cursor paginated
+     */
+    public PropertySliceDTO getActiveFeed(String cursorToken, Integer size) {
+        int pageSize = slicePageSize(size);
+        PropertySliceDTO.Cursor cursor = PropertySliceDTO.Cursor.decode(cursorToken);
+        logger.info("Fetching active feed slice (size: {}, cursor: {})", pageSize, cursorToken);
+
+        List<PropertyDTO> rows = propertyRepository.findActiveAfter(
+                cursor != null ? cursor.getCreatedAt() : null,
+                cursor != null ? cursor.getId() : null,
+                PageRequest.of(0, pageSize + 1)
+        );
+        return toSlice(rows, pageSize);
+    }
+
+    /**
+     * Newest-first slice of the active catalogue, optionally filtered by area, type, listing type
+     * and status, cursor paginated like getActiveFeed
+     */
+    public PropertySliceDTO getCatalogue(Integer areaId, String propertyType, String listingType, String status,
+                                         String cursorToken, Integer size) {
+        int pageSize = slicePageSize(size);
+        PropertySliceDTO.Cursor cursor = PropertySliceDTO.Cursor.decode(cursorToken);
+        logger.info("Fetching catalogue slice (size: {}, cursor: {})", pageSize, cursorToken);
+
+        List<PropertyDTO> rows = propertyRepository.findAgentCatalogueAfter(areaId,
+                blankToNull(propertyType), blankToNull(listingType), blankToNull(status),
+                cursor != null ? cursor.getCreatedAt() : null,
+                cursor != null ? cursor.getId() : null,
+                PageRequest.of(0, pageSize + 1)
         );
+        return toSlice(rows, pageSize);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    // Page size tunable from the MAX_SEARCH_RESULTS configuration row, read per request from the snapshot
+    private int maxPageSize() {
+        return configuration.current().getInt("MAX_SEARCH_RESULTS", 100);
+    }
+
+    private int slicePageSize(Integer size) {
+        int max = maxPageSize();
+        return size != null && size > 0 ? Math.min(size, max) : Math.min(20, max);
+    }
+
+    private static String textQuery(PropertySearchRequest request) {
+        return request.getQuery() != null && !request.getQuery().isBlank() ? request.getQuery().trim() : null;
+    }
 
-        logger.info("Found {} properties", propertyPage.getTotalElements());
+    // Request filters for the database queries, with the location resolved to a box and radius
+    private static PropertySearchCriteria criteria(PropertySearchRequest request) {
+        PropertySearchCriteria criteria = new PropertySearchCriteria(request, textQuery(request));
+        GeoFilter geo = GeoFilter.from(request);
+        if (geo != null) {
+            criteria.setBox(geo.minLatitude, geo.maxLatitude, geo.minLongitude, geo.maxLongitude);
+            if (geo.hasRadius()) {
+                criteria.setRadius(geo.latitude, geo.longitude, geo.lngScale(), geo.radiusDegreesSquared());
+            }
+        }
+        return criteria;
+    }
+
+    private void clampPageSize(PropertySearchRequest request) {
+        int max = maxPageSize();
+        if (request.getSize() == null || request.getSize() <= 0) {
+            request.setSize(Math.min(20, max));
+        } else if (request.getSize() > max) {
+            request.setSize(max);
+        }
+    }
 
-        return propertyPage.getContent().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    private PropertySliceDTO toSlice(List<PropertyDTO> rows, int size) {
+        List<PropertyDTO> content = rows.size() > size ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = null;
+        if (rows.size() > size) {
+            PropertyDTO last = content.get(content.size() - 1);
+            nextCursor = new PropertySliceDTO.Cursor(last.getCreatedAt(), last.getPropertyId()).encode();
+        }
+        return new PropertySliceDTO(propertyImageService.withPrimaryImages(content), nextCursor, size);
     }
 
     /**
@@ -72,12 +224,12 @@ public class PropertySearchService {
      */
     public List<PropertyDTO> getFeaturedProperties() {
         logger.info("Fetching featured properties");
-        List<Property> properties = propertyRepository.findByIsFeaturedTrueAndIsActiveTrueOrderByCreatedAtDesc();
-
-        return properties.stream()
-                .limit(6)
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        int count = configuration.current().getInt("FEATURED_PROPERTIES_COUNT", 6);
+        // PageRequest rejects a size below 1; zero or less switches the section off
+        if (count <= 0) {
+            return List.of();
+        }
+        return propertyImageService.withPrimaryImages(propertyRepository.findFeaturedPropertyDTOs(PageRequest.of(0, count)));
     }
 
     /**
@@ -85,11 +237,7 @@ public class PropertySearchService {
      */
     public List<PropertyDTO> getPropertiesByListingType(String listingType) {
         logger.info("Fetching properties with listing type: {}", listingType);
-        List<Property> properties = propertyRepository.findByListingTypeAndIsActiveTrue(listingType);
-
-        return properties.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return propertyImageService.withPrimaryImages(propertyRepository.findPropertyDTOsByListingType(listingType));
     }
 
     /**
@@ -97,11 +245,7 @@ public class PropertySearchService {
      */
     public List<PropertyDTO> getPropertiesByArea(Integer areaId) {
         logger.info("Fetching properties in area ID: {}", areaId);
-        List<Property> properties = propertyRepository.findByAreaId(areaId);
-
-        return properties.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return propertyImageService.withPrimaryImages(propertyRepository.findPropertyDTOsByAreaId(areaId));
     }
 
     /**
@@ -109,18 +253,15 @@ public class PropertySearchService {
      */
     public List<PropertyDTO> getPropertiesByUser(Long userId) {
         logger.info("Fetching properties for user ID: {}", userId);
-        List<Property> properties = propertyRepository.findByUserId(userId);
-
-        return properties.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return propertyImageService.withPrimaryImages(propertyRepository.findPropertyDTOsByUserId(userId));
     }
 
     /**
-     * ⭐ UPDATED: Convert Property entity to PropertyDTO
-     * NOW INCLUDES USER INFORMATION!
+     * Convert a loaded Property entity to PropertyDTO.
+     * Read paths select DTOs directly (PropertyRepository.DTO_SELECT); the search index is the
+     * one user, because it indexes the entities it loads on rebuild and receives after a write.
      */
-    private PropertyDTO convertToDTO(Property property) {
+    static PropertyDTO convertToDTO(Property property) {
         PropertyDTO dto = new PropertyDTO();
 
         dto.setPropertyId(property.getId());
@@ -142,7 +283,7 @@ public class PropertySearchService {
         dto.setOwnerType(property.getOwnerType());
         dto.setIsVerified(property.getIsVerified());
 
-        // ⭐ NEW: Set user information
+        // Set user information
         if (property.getUser() != null) {
             PropertyDTO.UserDTO userDTO = new PropertyDTO.UserDTO();
             userDTO.setId(property.getUser().getId());
@@ -151,10 +292,6 @@ public class PropertySearchService {
             userDTO.setEmail(property.getUser().getEmail());
             userDTO.setMobileNumber(property.getUser().getMobileNumber());
             dto.setUser(userDTO);
-
-            logger.debug("Set user info for property {}: User ID {}", property.getId(), userDTO.getId());
-        } else {
-            logger.warn("Property {} has no user associated!", property.getId());
         }
 
         // Set property type
@@ -1,5 +1,6 @@
 package com.example.realestate.service;
 
+import com.example.realestate.config.CacheConfig;
 import com.example.realestate.model.Property;
 import com.example.realestate.repository.PropertyRepository;
 import com.example.realestate.model.User;
@@ -12,13 +13,13 @@ import com.example.realestate.dto.PropertyPostRequestDto;
 import com.example.realestate.dto.PropertyDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.Optional;
 
 @Service
@@ -30,17 +31,24 @@ public class PropertyService {
     private final UserRepository userRepository;
     private final AreaRepository areaRepository;
     private final PropertyTypeRepository propertyTypeRepository;
+    private final PropertySearchIndex propertySearchIndex;
+    private final PropertyTypeService propertyTypeService;
+    private final PropertyImageService propertyImageService;
 
-    public PropertyService(PropertyRepository repo, UserRepository userRepository, AreaRepository areaRepository, PropertyTypeRepository propertyTypeRepository) {
+    public PropertyService(PropertyRepository repo, UserRepository userRepository, AreaRepository areaRepository, PropertyTypeRepository propertyTypeRepository, PropertySearchIndex propertySearchIndex, PropertyTypeService propertyTypeService, PropertyImageService propertyImageService) {
         this.repo = repo;
         this.userRepository = userRepository;
         this.areaRepository = areaRepository;
         this.propertyTypeRepository = propertyTypeRepository;
+        this.propertySearchIndex = propertySearchIndex;
+        this.propertyTypeService = propertyTypeService;
+        this.propertyImageService = propertyImageService;
     }
 
     /**
      * Create new property from DTO.
      */
+    @CacheEvict(cacheNames = CacheConfig.FEATURED_RESPONSES, allEntries = true)
     public Property postProperty(PropertyPostRequestDto dto) {
         Long areaId = dto.getArea().getId();
         Long userId = dto.getUser().getId();
@@ -51,11 +59,12 @@ public class PropertyService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + userId));
 
-        PropertyType propertyType = propertyTypeRepository.findByTypeName(dto.getType())
-                .orElseGet(() -> {
-                    logger.warn("PropertyType '{}' not found. Defaulting to 'Apartment'.", dto.getType());
-                    return propertyTypeRepository.findByTypeName("Apartment").orElse(null);
-                });
+        // Cached lookup: no SQL once the property type cache is warm
+        PropertyType propertyType = propertyTypeService.getPropertyTypeByName(dto.getType());
+        if (propertyType == null) {
+            logger.warn("PropertyType '{}' not found. Defaulting to 'Apartment'.", dto.getType());
+            propertyType = propertyTypeService.getPropertyTypeByName("Apartment");
+        }
 
         Property property = new Property();
         property.setTitle(dto.getTitle());
@@ -76,6 +85,8 @@ public class PropertyService {
         property.setListingType(dto.getListingType());
         property.setCity(dto.getCity());
         property.setAddress(dto.getAddress());
+        property.setLatitude(dto.getLatitude());
+        property.setLongitude(dto.getLongitude());
         property.setAmenities(dto.getAmenities());
         property.setStatus(dto.getStatus());
         property.setIsFeatured(dto.getIsFeatured());
@@ -86,84 +97,31 @@ public class PropertyService {
         property.setIsReadyToMove(dto.getIsReadyToMove());
         property.setIsVerified(dto.getIsVerified());
 
-        return repo.save(property);
+        Property saved = repo.save(property);
+        propertySearchIndex.onPropertySaved(saved);
+        return saved;
     }
 
     /**
      * Get properties by user and convert to DTOs
      */
+    @Transactional(readOnly = true)
     public List<PropertyDTO> getPropertiesByUser(Long userId) {
         logger.info("Fetching properties for user ID: {}", userId);
-        List<Property> properties = repo.findByUserId(userId);
-
-        return properties.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * ⭐ UPDATED: Helper method to convert Property Entity to PropertyDTO
-     * NOW INCLUDES USER INFORMATION!
-     */
-    private PropertyDTO convertToDTO(Property property) {
-        PropertyDTO dto = new PropertyDTO();
-
-        dto.setPropertyId(property.getId());
-        dto.setPropertyType(property.getType());
-        dto.setTitle(property.getTitle());
-        dto.setDescription(property.getDescription());
-        dto.setPrice(property.getPrice());
-        dto.setAreaSqft(property.getAreaSqft());
-        dto.setBedrooms(property.getBedrooms());
-        dto.setBathrooms(property.getBathrooms());
-        dto.setAddress(property.getAddress());
-        dto.setStatus(property.getStatus());
-        dto.setListingType(property.getListingType());
-        dto.setImageUrl(property.getImageUrl());
-        dto.setAmenities(property.getAmenities());
-        dto.setIsFeatured(property.getIsFeatured());
-        dto.setCreatedAt(property.getCreatedAt());
-        dto.setPriceDisplay(property.getPriceDisplay());
-        dto.setIsReadyToMove(property.getIsReadyToMove());
-        dto.setOwnerType(property.getOwnerType());
-        dto.setIsVerified(property.getIsVerified());
-
-        // ⭐ NEW: Set user information
-        if (property.getUser() != null) {
-            PropertyDTO.UserDTO userDTO = new PropertyDTO.UserDTO();
-            userDTO.setId(property.getUser().getId());
-            userDTO.setFirstName(property.getUser().getFirstName());
-            userDTO.setLastName(property.getUser().getLastName());
-            userDTO.setEmail(property.getUser().getEmail());
-            userDTO.setMobileNumber(property.getUser().getMobileNumber());
-            dto.setUser(userDTO);
-
-            logger.debug("Set user info for property {}: User ID {}", property.getId(), userDTO.getId());
-        } else {
-            logger.warn("Property {} has no user associated!", property.getId());
-        }
-
-        // Area/Location details
-        if (property.getArea() != null) {
-            dto.setAreaName(property.getArea().getAreaName());
-            dto.setPincode(property.getArea().getPincode());
-
-            if (property.getArea().getCity() != null) {
-                dto.setCityName(property.getArea().getCity().getCityName());
-                dto.setState(property.getArea().getCity().getState());
-            }
-        }
-
-        return dto;
+        return propertyImageService.withPrimaryImages(repo.findPropertyDTOsByUserId(userId));
     }
 
     // Existing methods
+    @Transactional(readOnly = true)
     public List<Property> findAll() { return repo.findAll(); }
 
+    @Transactional(readOnly = true)
     public Optional<Property> findById(Long id) { return repo.findById(id); }
 
+    @Transactional(readOnly = true)
     public List<Property> findByCity(String city) { return repo.findByCityIgnoreCase(city); }
 
+    @Transactional(readOnly = true)
     public List<Property> findByAreaName(String areaName) { return repo.findByAreaNameAndIsActiveTrue(areaName); }
 // In PropertyService.java
 
@@ -172,6 +130,7 @@ public class PropertyService {
     /**
      * Update property
      */
+    @CacheEvict(cacheNames = CacheConfig.FEATURED_RESPONSES, allEntries = true)
     public Property updateProperty(Long id, Property propertyDetails) {
         Property property = repo.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Property not found with id: " + id));
@@ -186,6 +145,8 @@ public class PropertyService {
         if (propertyDetails.getBalconies() != null) property.setBalconies(propertyDetails.getBalconies());
         if (propertyDetails.getAreaSqft() != null) property.setAreaSqft(propertyDetails.getAreaSqft());
         if (propertyDetails.getAddress() != null) property.setAddress(propertyDetails.getAddress());
+        if (propertyDetails.getLatitude() != null) property.setLatitude(propertyDetails.getLatitude());
+        if (propertyDetails.getLongitude() != null) property.setLongitude(propertyDetails.getLongitude());
         if (propertyDetails.getImageUrl() != null) property.setImageUrl(propertyDetails.getImageUrl());
         if (propertyDetails.getAmenities() != null) property.setAmenities(propertyDetails.getAmenities());
         if (propertyDetails.getStatus() != null) property.setStatus(propertyDetails.getStatus());
@@ -228,15 +189,19 @@ public class PropertyService {
         // Also update the 'type' string field if needed (backward compatibility field)
         if (propertyDetails.getType() != null) property.setType(propertyDetails.getType());
 
-        return repo.save(property);
+        Property saved = repo.save(property);
+        propertySearchIndex.onPropertySaved(saved);
+        return saved;
     }
     /**
      * Soft delete property
      */
+    @CacheEvict(cacheNames = CacheConfig.FEATURED_RESPONSES, allEntries = true)
     public void deleteProperty(Long id) {
         Property property = repo.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Property not found with id: " + id));
         property.setIsActive(false);
         repo.save(property);
+        propertySearchIndex.onPropertyRemoved(id);
     }
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package com.example.realestate.service;
 
+import com.example.realestate.config.CacheConfig;
+import com.example.realestate.config.PrimaryRead;
 import com.example.realestate.model.PropertyType;
 import com.example.realestate.repository.PropertyTypeRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +27,9 @@ public class PropertyTypeService {
     /**
      * Get all active property types
      */
+    @Cacheable(cacheNames = CacheConfig.PROPERTY_TYPES, key = "'active'")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public List<PropertyType> getAllPropertyTypes() {
         logger.info("Fetching all active property types");
         return propertyTypeRepository.findByIsActiveTrue();
@@ -31,6 +38,9 @@ public class PropertyTypeService {
     /**
      * Get all property types (including inactive)
      */
+    @Cacheable(cacheNames = CacheConfig.PROPERTY_TYPES, key = "'all'")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public List<PropertyType> getAllPropertyTypesIncludingInactive() {
         logger.info("Fetching all property types");
         return propertyTypeRepository.findAll();
@@ -39,6 +49,9 @@ public class PropertyTypeService {
     /**
      * Get property type by ID
      */
+    @Cacheable(cacheNames = CacheConfig.PROPERTY_TYPES, key = "'id:' + #typeId")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public PropertyType getPropertyTypeById(Integer typeId) {
         logger.info("Fetching property type with ID: {}", typeId);
         return propertyTypeRepository.findById(typeId)
@@ -48,6 +61,9 @@ public class PropertyTypeService {
     /**
      * Get property type by name
      */
+    @Cacheable(cacheNames = CacheConfig.PROPERTY_TYPES, key = "'name:' + #typeName?.toLowerCase()")
+    @PrimaryRead
+    @Transactional(readOnly = true)
     public PropertyType getPropertyTypeByName(String typeName) {
         logger.info("Fetching property type with name: {}", typeName);
         return propertyTypeRepository.findByTypeNameIgnoreCase(typeName)
@@ -57,6 +73,7 @@ public class PropertyTypeService {
     /**
      * Create new property type
      */
+    @CacheEvict(cacheNames = {CacheConfig.PROPERTY_TYPES, CacheConfig.REFERENCE_RESPONSES, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public PropertyType createPropertyType(PropertyType propertyType) {
         logger.info("Creating new property type: {}", propertyType.getTypeName());
 
@@ -71,6 +88,7 @@ public class PropertyTypeService {
     /**
      * Update existing property type
      */
+    @CacheEvict(cacheNames = {CacheConfig.PROPERTY_TYPES, CacheConfig.REFERENCE_RESPONSES, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public PropertyType updatePropertyType(Integer typeId, PropertyType typeDetails) {
         logger.info("Updating property type with ID: {}", typeId);
         PropertyType propertyType = propertyTypeRepository.findById(typeId)
@@ -86,6 +104,7 @@ public class PropertyTypeService {
     /**
      * Delete property type (soft delete by setting isActive to false)
      */
+    @CacheEvict(cacheNames = {CacheConfig.PROPERTY_TYPES, CacheConfig.REFERENCE_RESPONSES, CacheConfig.FEATURED_RESPONSES}, allEntries = true)
     public void deletePropertyType(Integer typeId) {
         logger.info("Deleting property type with ID: {}", typeId);
         PropertyType propertyType = propertyTypeRepository.findById(typeId)
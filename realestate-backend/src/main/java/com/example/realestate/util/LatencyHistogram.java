@@ -0,0 +1,64 @@
+package com.example.realestate.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-scale histogram of durations. Buckets grow by 10% from 1 microsecond,
+ * so percentiles carry at most ~5% relative error in constant memory.
+ */
+public class LatencyHistogram {
+
+    private static final double GROWTH = 1.1;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    private static final int BUCKETS = 256;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = nanos / 1000;
+        int bucket = micros < 1 ? 0 : Math.min(BUCKETS - 1, 1 + (int) (Math.log(micros) / LOG_GROWTH));
+        counts.incrementAndGet(bucket);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Count plus p50/p90/p99/max in milliseconds
+     */
+    public Map<String, Object> snapshot() {
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", total);
+        result.put("p50", quantileMillis(copy, total, 0.5));
+        result.put("p90", quantileMillis(copy, total, 0.9));
+        result.put("p99", quantileMillis(copy, total, 0.99));
+        result.put("max", round2(maxNanos.get() / 1_000_000.0));
+        return result;
+    }
+
+    private static double quantileMillis(long[] copy, long total, double q) {
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += copy[bucket];
+            if (seen >= rank && copy[bucket] > 0) {
+                // Geometric midpoint of [GROWTH^(b-1), GROWTH^b) microseconds
+                double micros = bucket == 0 ? 0 : Math.pow(GROWTH, bucket - 0.5);
+                return round2(micros / 1000.0);
+            }
+        }
+        return 0;
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
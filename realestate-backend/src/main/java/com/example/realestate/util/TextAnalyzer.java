@@ -0,0 +1,81 @@
+package com.example.realestate.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenizer for listing text: lower-cases, splits on anything that is not a letter or digit,
+ * drops stop words and applies a light English stemmer (plurals, -ing, -ed, final e), so "gated
+ * communities" and "gated community" produce the same terms. Queries and documents must go
+ * through the same analyzer.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into", "is", "it",
+            "near", "of", "on", "or", "the", "to", "with", "within");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Terms of the text in order, duplicates kept (term frequency matters for ranking)
+     */
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = lower.substring(start, i);
+                start = -1;
+                if (!STOP_WORDS.contains(token)) {
+                    terms.add(stem(token));
+                }
+            }
+        }
+        return terms;
+    }
+
+    static String stem(String token) {
+        if (token.length() <= 3 || !Character.isLetter(token.charAt(token.length() - 1))) {
+            return token;
+        }
+        String word = token;
+        if (word.endsWith("ies") && word.length() > 4) {
+            word = word.substring(0, word.length() - 3) + "y";
+        } else if (word.endsWith("sses") || word.endsWith("xes") || word.endsWith("ches") || word.endsWith("shes")) {
+            word = word.substring(0, word.length() - 2);
+        } else if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is")) {
+            word = word.substring(0, word.length() - 1);
+        }
+
+        if (word.endsWith("ing") && word.length() > 5) {
+            word = undouble(word.substring(0, word.length() - 3));
+        } else if (word.endsWith("ed") && word.length() > 4) {
+            word = undouble(word.substring(0, word.length() - 2));
+        }
+        // A final e is dropped so "gate"/"gated" and "house"/"housing" meet at the same stem
+        if (word.endsWith("e") && word.length() > 3) {
+            word = word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+
+    // "swimming" -> "swimm" -> "swim", but "dressed" -> "dress" keeps its ss
+    private static String undouble(String word) {
+        int n = word.length();
+        if (n >= 2 && word.charAt(n - 1) == word.charAt(n - 2) && "lsz".indexOf(word.charAt(n - 1)) < 0) {
+            return word.substring(0, n - 1);
+        }
+        return word;
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.realestate.config;
+
+import com.example.realestate.model.City;
+import com.example.realestate.model.User;
+import com.example.realestate.repository.CityRepository;
+import com.example.realestate.security.JwtTokenService;
+import com.example.realestate.service.CityService;
+import com.example.realestate.service.PropertyTypeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the app against two in-memory H2 databases, a primary and a "replica" that never receives
+ * the primary's writes, so every read shows which database it came from.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY_URL,
+        "spring.datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+        "spring.datasource.replica.read-your-writes-window=1m",
+        // Hibernate creates the schema on the primary and writes the same DDL to a script for the replica
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.jakarta.persistence.schema-generation.database.action=create",
+        "spring.jpa.properties.jakarta.persistence.schema-generation.scripts.action=create",
+        "spring.jpa.properties.jakarta.persistence.schema-generation.scripts.create-target=" + ReplicaRoutingTest.SCHEMA_SCRIPT,
+        "spring.jpa.properties.hibernate.hbm2ddl.schema-generation.script.append=false",
+        "spring.jpa.properties.hibernate.hbm2ddl.delimiter=;",
+        "search.index.enabled=false"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String SCHEMA_SCRIPT = "target/replica-routing-schema.sql";
+
+    private static final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @TestConfiguration
+    static class ReplicaSchema {
+
+        // Runs once Hibernate has written the script and before any startup listener reads
+        @Bean
+        Object replicaSchemaLoader(EntityManagerFactory entityManagerFactory) {
+            replica.execute("RUNSCRIPT FROM '" + SCHEMA_SCRIPT + "'");
+            return new Object();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private PropertyTypeService propertyTypeService;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private JwtTokenService tokenService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void resetData() {
+        for (JdbcTemplate database : List.of(primary, replica)) {
+            database.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            for (String table : List.of("deal_stage_event", "deal_stage_counter", "deal_status", "property", "areas",
+                    "cities", "property_types", "users")) {
+                database.execute("TRUNCATE TABLE " + table + " RESTART IDENTITY");
+            }
+            database.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void readOnlyTransactionsReadTheReplica() {
+        primary.update("INSERT INTO cities (city_name, state, is_active) VALUES ('Pune', 'Primary', TRUE)");
+        replica.update("INSERT INTO cities (city_name, state, is_active) VALUES ('Pune', 'Replica', TRUE)");
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<City> cities = readOnly.execute(status -> cityRepository.findAll());
+
+        assertThat(cities).extracting(City::getState).containsExactly("Replica");
+    }
+
+    @Test
+    void writesGoToThePrimaryOnly() {
+        City city = new City();
+        city.setCityName("Nagpur");
+        city.setState("Maharashtra");
+        cityService.createCity(city);
+
+        assertThat(primary.queryForList("SELECT city_name FROM cities", String.class)).containsExactly("Nagpur");
+        assertThat(replica.queryForList("SELECT city_name FROM cities", String.class)).isEmpty();
+    }
+
+    @Test
+    void cachedReferenceDataIsLoadedFromThePrimary() {
+        primary.update("INSERT INTO cities (city_name, state, is_active) VALUES ('Pune', 'Primary', TRUE)");
+        replica.update("INSERT INTO cities (city_name, state, is_active) VALUES ('Pune', 'Replica', TRUE)");
+        primary.update("INSERT INTO property_types (type_name, is_active) VALUES ('Villa', TRUE)");
+
+        assertThat(cityService.getAllCities()).extracting(City::getState).containsExactly("Primary");
+        assertThat(propertyTypeService.getPropertyTypeByName("Villa")).isNotNull();
+    }
+
+    @Test
+    void sellerSeesTheirNewListingRightAfterPosting() throws Exception {
+        primary.update("INSERT INTO users (username, password, email, role, is_active) "
+                + "VALUES ('seller', 'x', 'seller@example.com', 'USER', TRUE)");
+        primary.update("INSERT INTO cities (city_name, state, is_active) VALUES ('Pune', 'Maharashtra', TRUE)");
+        primary.update("INSERT INTO areas (city_id, area_name, pincode, is_active) VALUES (1, 'Baner', '411045', TRUE)");
+        primary.update("INSERT INTO property_types (type_name, is_active) VALUES ('Apartment', TRUE)");
+
+        User seller = new User();
+        seller.setId(1L);
+        seller.setUsername("seller");
+        seller.setRole(User.UserRole.USER);
+        String token = tokenService.generateToken(seller);
+
+        String listing = """
+                {"title": "2BHK in Baner", "price": 9500000, "type": "Apartment", "listingType": "sale",
+                 "city": "Pune", "area": {"id": 1}, "user": {"id": 1}}
+                """;
+        mockMvc.perform(post("/api/properties")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(listing))
+                .andExpect(status().isCreated());
+
+        // The replica has not seen the listing; only the seller is kept on the primary
+        mockMvc.perform(get("/api/properties/user/1"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/properties/user/1").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("2BHK in Baner"));
+    }
+
+    @Test
+    void dealStageChangeAfterAReadLandsOnThePrimary() throws Exception {
+        // The same deal exists on both databases; the controller reads it before changing the stage
+        for (JdbcTemplate database : List.of(primary, replica)) {
+            database.update("INSERT INTO users (username, password, email, role, is_active) VALUES "
+                    + "('buyer', 'x', 'buyer@example.com', 'USER', TRUE), "
+                    + "('agent', 'x', 'agent@example.com', 'AGENT', TRUE)");
+            database.update("INSERT INTO property (user_id, title, price, is_active) VALUES (1, 'Flat', 5000000, TRUE)");
+            database.update("INSERT INTO deal_status (property_id, buyer_id, agent_id, stage, created_at, updated_at) "
+                    + "VALUES (1, 1, 2, 'INQUIRY', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        }
+
+        User agent = new User();
+        agent.setId(2L);
+        agent.setUsername("agent");
+        agent.setRole(User.UserRole.AGENT);
+        String token = tokenService.generateToken(agent);
+
+        mockMvc.perform(put("/api/deals/1/stage")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"stage\": \"NEGOTIATION\", \"notes\": \"Offer received\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(primary.queryForObject("SELECT stage FROM deal_status WHERE id = 1", String.class))
+                .isEqualTo("NEGOTIATION");
+        assertThat(replica.queryForObject("SELECT stage FROM deal_status WHERE id = 1", String.class))
+                .isEqualTo("INQUIRY");
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM deal_stage_event", Integer.class)).isZero();
+
+        // The agent is now a recent writer, so their next read comes from the primary
+        mockMvc.perform(get("/api/deals/1").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.stage").value("NEGOTIATION"));
+    }
+}
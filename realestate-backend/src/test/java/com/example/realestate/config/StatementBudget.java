@@ -0,0 +1,59 @@
+package com.example.realestate.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement budgets for tests: runs a piece of work, e.g. a MockMvc call, and checks the SQL it
+ * sent on the calling thread.
+ * <pre>
+ * StatementBudget.measure(() -> mockMvc.perform(get("/api/deals/my-deals").param("userRole", "SELLER")))
+ *         .assertStatementsAtMost(2)
+ *         .assertNoStatementRepeatedMoreThan(1);
+ * </pre>
+ */
+public final class StatementBudget {
+
+    @FunctionalInterface
+    public interface Work {
+        void run() throws Exception;
+    }
+
+    private final SqlStatementReport report;
+
+    private StatementBudget(SqlStatementReport report) {
+        this.report = report;
+    }
+
+    public static StatementBudget measure(Work work) throws Exception {
+        SqlStatementReport report = SqlStatementCounter.begin(new SqlStatementReport());
+        try {
+            work.run();
+        } finally {
+            SqlStatementCounter.end(report);
+        }
+        return new StatementBudget(report);
+    }
+
+    public SqlStatementReport getReport() {
+        return report;
+    }
+
+    public int getStatements() {
+        return report.getStatements();
+    }
+
+    public StatementBudget assertStatementsAtMost(int max) {
+        assertThat(report.getStatements()).as("SQL statements: %s", report).isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    public StatementBudget assertEntityLoadsAtMost(int max) {
+        assertThat(report.getEntityLoads()).as("Entity loads: %s", report).isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    public StatementBudget assertNoStatementRepeatedMoreThan(int max) {
+        assertThat(report.getMaxRepeats()).as("Repeated statements: %s", report).isLessThanOrEqualTo(max);
+        return this;
+    }
+}
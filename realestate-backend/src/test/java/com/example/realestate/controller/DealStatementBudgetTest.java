@@ -0,0 +1,160 @@
+package com.example.realestate.controller;
+
+import com.example.realestate.config.StatementBudget;
+import com.example.realestate.model.User;
+import com.example.realestate.security.JwtTokenService;
+import com.example.realestate.service.DealStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the deal endpoints that used to run a query per row: agent performance
+ * and the deal lists built with convertToDealDetailDTO. Every deal has its own property, seller
+ * and buyer, so a per-row lookup shows up as a repeated statement.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:deal-statement-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "search.index.enabled=false"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class DealStatementBudgetTest {
+
+    private static final long ADMIN = 1;
+    private static final long AGENT = 2;
+    private static final long SELLER = 10;
+    private static final long BUYER = 100;
+    private static final int AGENTS = 3;
+    private static final int DEALS = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenService tokenService;
+
+    @Autowired
+    private DealStatsService dealStatsService;
+
+    @BeforeEach
+    void seedDeals() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM deal_status", Integer.class) > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO cities (city_id, city_name, state, is_active) VALUES (1, 'Pune', 'Maharashtra', TRUE)");
+        for (int area = 1; area <= 5; area++) {
+            jdbcTemplate.update("INSERT INTO areas (area_id, city_id, area_name, pincode, is_active) VALUES (?, 1, ?, '411045', TRUE)",
+                    area, "Area " + area);
+        }
+        for (int type = 1; type <= 3; type++) {
+            jdbcTemplate.update("INSERT INTO property_types (property_type_id, type_name, is_active) VALUES (?, ?, TRUE)", type, "Type " + type);
+        }
+
+        List<Object[]> users = new ArrayList<>();
+        users.add(new Object[]{ADMIN, "admin", "ADMIN"});
+        for (int i = 0; i < AGENTS; i++) {
+            users.add(new Object[]{AGENT + i, "agent" + i, "AGENT"});
+        }
+        List<Object[]> properties = new ArrayList<>();
+        List<Object[]> deals = new ArrayList<>();
+        for (int i = 0; i < DEALS; i++) {
+            users.add(new Object[]{SELLER + i, "seller" + i, "USER"});
+            users.add(new Object[]{BUYER + i, "buyer" + i, "USER"});
+            properties.add(new Object[]{i + 1, SELLER + i, "Flat " + i, i % 3 + 1, i % 5 + 1});
+            deals.add(new Object[]{i + 1, BUYER + i, AGENT + i % AGENTS, i % 2 == 0 ? "COMPLETED" : "NEGOTIATION",
+                    new BigDecimal("1000000")});
+        }
+        // Every seller also buys the next listing, so the SELLER and BUYER views both have rows
+        for (int i = 0; i < DEALS; i++) {
+            deals.add(new Object[]{(i + 1) % DEALS + 1, SELLER + i, AGENT + i % AGENTS, "INQUIRY", null});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, username, password, email, first_name, last_name, role, is_active) "
+                + "VALUES (?, ?, 'x', CONCAT(?, '@example.com'), 'Test', 'User', ?, TRUE)",
+                users.stream().map(u -> new Object[]{u[0], u[1], u[1], u[2]}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO property (id, user_id, title, price, city, property_type_id, area_id, is_active) "
+                + "VALUES (?, ?, ?, 5000000, 'Pune', ?, ?, TRUE)", properties);
+        jdbcTemplate.batchUpdate("INSERT INTO deal_status (property_id, buyer_id, agent_id, stage, agreed_price, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", deals);
+        dealStatsService.rebuild();
+    }
+
+    @Test
+    void agentPerformanceFromCountersStaysWithinBudget() throws Exception {
+        String token = token(ADMIN, User.UserRole.ADMIN);
+        StatementBudget.measure(() -> mockMvc.perform(get("/api/deals/admin/agents-performance")
+                                .header("Authorization", "Bearer " + token))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.length()").value(AGENTS)))
+                .assertStatementsAtMost(2)
+                .assertNoStatementRepeatedMoreThan(1);
+    }
+
+    @Test
+    void liveAgentPerformanceStaysWithinBudget() throws Exception {
+        String token = token(ADMIN, User.UserRole.ADMIN);
+        StatementBudget.measure(() -> mockMvc.perform(get("/api/deals/admin/agents-performance")
+                                .param("live", "true")
+                                .header("Authorization", "Bearer " + token))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.length()").value(AGENTS)))
+                .assertStatementsAtMost(1);
+    }
+
+    @Test
+    void agentDealListStaysWithinBudget() throws Exception {
+        assertMyDealsWithinBudget(AGENT, User.UserRole.AGENT, "AGENT", DEALS * 2 / AGENTS);
+    }
+
+    @Test
+    void sellerDealListStaysWithinBudget() throws Exception {
+        assertMyDealsWithinBudget(SELLER, User.UserRole.USER, "SELLER", 2);
+    }
+
+    @Test
+    void buyerDealListStaysWithinBudget() throws Exception {
+        assertMyDealsWithinBudget(SELLER, User.UserRole.USER, "BUYER", 1);
+    }
+
+    @Test
+    void adminDealListStaysWithinBudget() throws Exception {
+        assertMyDealsWithinBudget(ADMIN, User.UserRole.ADMIN, "ADMIN", DEALS * 2);
+    }
+
+    private void assertMyDealsWithinBudget(long userId, User.UserRole role, String userRole, int expectedDeals)
+            throws Exception {
+        String token = token(userId, role);
+        StatementBudget.measure(() -> mockMvc.perform(get("/api/deals/my-deals")
+                                .param("userRole", userRole)
+                                .header("Authorization", "Bearer " + token))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.length()").value(expectedDeals)))
+                .assertStatementsAtMost(3)
+                .assertNoStatementRepeatedMoreThan(1);
+    }
+
+    private String token(long id, User.UserRole role) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setRole(role);
+        return tokenService.generateToken(user);
+    }
+}
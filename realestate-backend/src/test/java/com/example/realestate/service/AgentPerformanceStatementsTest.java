@@ -0,0 +1,103 @@
+package com.example.realestate.service;
+
+import com.example.realestate.config.StatementBudget;
+import com.example.realestate.dto.AgentPerformanceDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Agent performance must cost the same number of statements whether there are ten agents or
+ * thousands: per-agent work happens in SQL aggregates, never in a query per agent.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agent-performance;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "search.index.enabled=false"
+})
+@ActiveProfiles("h2")
+class AgentPerformanceStatementsTest {
+
+    @Autowired
+    private DealService dealService;
+
+    @Autowired
+    private DealStatsService dealStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void statementCountStaysFlatAsAgentsGrow() throws Exception {
+        jdbcTemplate.update("INSERT INTO users (id, username, password, email, role, is_active) "
+                + "VALUES (1, 'buyer', 'x', 'buyer@example.com', 'USER', TRUE)");
+        jdbcTemplate.update("INSERT INTO property (id, user_id, title, price, is_active) "
+                + "VALUES (1, 1, 'Flat', 5000000, TRUE)");
+
+        addAgentsWithDeals(1, 10);
+        Measured few = measureBothPaths();
+
+        addAgentsWithDeals(11, 3000);
+        Measured many = measureBothPaths();
+
+        assertThat(many.counters.size()).isEqualTo(3000);
+        assertThat(many.live.size()).isEqualTo(3000);
+        assertThat(many.counterStatements).isEqualTo(few.counterStatements).isEqualTo(2);
+        assertThat(many.liveStatements).isEqualTo(few.liveStatements).isEqualTo(1);
+
+        // Each agent has a completed deal at 1,000,000 and an open inquiry without a price
+        for (List<AgentPerformanceDTO> performance : List.of(many.counters, many.live)) {
+            AgentPerformanceDTO agent = performance.get(2999);
+            assertThat(agent.getTotalDeals()).isEqualTo(2);
+            assertThat(agent.getCompletedDeals()).isEqualTo(1);
+            assertThat(agent.getTotalAgreedPrice()).isEqualByComparingTo("1000000");
+            assertThat(agent.getAverageDealPrice()).isEqualByComparingTo("500000");
+        }
+    }
+
+    private void addAgentsWithDeals(int firstAgent, int lastAgent) {
+        List<Object[]> agents = new ArrayList<>();
+        List<Object[]> deals = new ArrayList<>();
+        for (int agent = firstAgent; agent <= lastAgent; agent++) {
+            long id = 1000L + agent;
+            agents.add(new Object[]{id, "agent" + agent, "agent" + agent + "@example.com"});
+            deals.add(new Object[]{id, "COMPLETED", new BigDecimal("1000000")});
+            deals.add(new Object[]{id, "INQUIRY", null});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, username, password, email, first_name, last_name, role, is_active) "
+                + "VALUES (?, ?, 'x', ?, 'Agent', 'Test', 'AGENT', TRUE)", agents);
+        jdbcTemplate.batchUpdate("INSERT INTO deal_status (property_id, buyer_id, agent_id, stage, agreed_price, created_at, updated_at) "
+                + "VALUES (1, 1, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", deals);
+        dealStatsService.rebuild();
+    }
+
+    private Measured measureBothPaths() throws Exception {
+        Measured measured = new Measured();
+        AtomicReference<List<AgentPerformanceDTO>> result = new AtomicReference<>();
+
+        measured.counterStatements = StatementBudget.measure(
+                () -> result.set(dealService.getAgentPerformanceMetrics())).getStatements();
+        measured.counters = result.get();
+
+        measured.liveStatements = StatementBudget.measure(
+                () -> result.set(dealService.getAgentPerformanceMetricsLive())).getStatements();
+        measured.live = result.get();
+        return measured;
+    }
+
+    private static class Measured {
+        List<AgentPerformanceDTO> counters;
+        List<AgentPerformanceDTO> live;
+        int counterStatements;
+        int liveStatements;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.realestate.service;
+
+import com.example.realestate.model.DealStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A deal written while the counters are being rebuilt must end up counted exactly once.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:deal-stats-rebuild;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "search.index.enabled=false"
+})
+@ActiveProfiles("h2")
+class DealStatsRebuildTest {
+
+    @Autowired
+    private DealService dealService;
+
+    @Autowired
+    private DealStatsService dealStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void dealCreatedDuringRebuildIsCountedOnce() throws Exception {
+        jdbcTemplate.update("INSERT INTO users (id, username, password, email, role, is_active) VALUES "
+                + "(1, 'buyer', 'x', 'buyer@example.com', 'USER', TRUE), "
+                + "(2, 'agent', 'x', 'agent@example.com', 'AGENT', TRUE), "
+                + "(3, 'second', 'x', 'second@example.com', 'USER', TRUE)");
+        jdbcTemplate.update("INSERT INTO property (id, user_id, title, price, is_active) VALUES (1, 1, 'Flat', 5000000, TRUE)");
+        // No INQUIRY counter rows exist yet, so the new deal has to create them
+        jdbcTemplate.update("INSERT INTO deal_status (property_id, buyer_id, agent_id, stage, created_at, updated_at) "
+                + "VALUES (1, 1, 2, 'NEGOTIATION', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+        CountDownLatch rebuilt = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    dealStatsService.rebuild();
+                    rebuilt.countDown();
+                    await(commit);
+                }));
+        assertThat(rebuilt.await(30, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<DealStatus> created = CompletableFuture.supplyAsync(() -> dealService.createDeal(1L, 3L, 2L));
+        Thread.sleep(500);
+        assertThat(created).as("deal write waits for the rebuild to commit").isNotDone();
+
+        commit.countDown();
+        rebuild.get(30, TimeUnit.SECONDS);
+        created.get(30, TimeUnit.SECONDS);
+
+        assertThat(dealStatsService.getDealCountsByStage())
+                .containsEntry("INQUIRY", 1L)
+                .containsEntry("NEGOTIATION", 1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT deal_count FROM deal_stage_counter WHERE agent_id = 2 AND stage = 'INQUIRY'", Long.class))
+                .isEqualTo(1L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
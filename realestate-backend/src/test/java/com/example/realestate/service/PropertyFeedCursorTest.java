@@ -0,0 +1,81 @@
+package com.example.realestate.service;
+
+import com.example.realestate.dto.PropertyDTO;
+import com.example.realestate.dto.PropertySearchRequest;
+import com.example.realestate.dto.PropertySliceDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cursor pages walk the whole createdAt DESC order, including the rows without a createdAt
+ * that sort after every dated row.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:property-feed-cursor;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "search.index.enabled=false"
+})
+@ActiveProfiles("h2")
+class PropertyFeedCursorTest {
+
+    // Newest first, two rows sharing a timestamp, then the undated rows by id
+    private static final List<Long> FEED_ORDER = List.of(3L, 5L, 1L, 6L, 4L, 2L);
+
+    @Autowired
+    private PropertySearchService propertySearchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedProperties() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM property", Integer.class) > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO users (id, username, password, email, role, is_active) "
+                + "VALUES (1, 'seller', 'x', 'seller@example.com', 'USER', TRUE)");
+        String insert = "INSERT INTO property (id, user_id, title, price, is_active, created_at) VALUES (?, 1, ?, 5000000, TRUE, ?)";
+        jdbcTemplate.update(insert, 1, "Flat 1", "2024-01-01 10:00:00");
+        jdbcTemplate.update(insert, 2, "Flat 2", null);
+        jdbcTemplate.update(insert, 3, "Flat 3", "2024-03-01 10:00:00");
+        jdbcTemplate.update(insert, 4, "Flat 4", null);
+        jdbcTemplate.update(insert, 5, "Flat 5", "2024-01-01 10:00:00");
+        jdbcTemplate.update(insert, 6, "Flat 6", null);
+    }
+
+    @Test
+    void activeFeedPagesThroughUndatedRows() {
+        assertThat(walk(cursor -> propertySearchService.getActiveFeed(cursor, 2))).isEqualTo(FEED_ORDER);
+    }
+
+    @Test
+    void cursorSearchPagesThroughUndatedRows() {
+        assertThat(walk(cursor -> {
+            PropertySearchRequest request = new PropertySearchRequest();
+            request.setSize(2);
+            request.setCursor(cursor);
+            return propertySearchService.scrollProperties(request);
+        })).isEqualTo(FEED_ORDER);
+    }
+
+    private static List<Long> walk(Function<String, PropertySliceDTO> page) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            PropertySliceDTO slice = page.apply(cursor);
+            slice.getContent().stream().map(PropertyDTO::getPropertyId).forEach(ids::add);
+            cursor = slice.getNextCursor();
+        } while (cursor != null && ids.size() <= FEED_ORDER.size());
+        return ids;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.realestate.service;
+
+import com.example.realestate.dto.PropertyDTO;
+import com.example.realestate.dto.PropertySearchRequest;
+import com.example.realestate.dto.PropertySearchResultDTO;
+import com.example.realestate.model.Property;
+import com.example.realestate.repository.PropertyRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PropertySearchIndexTest {
+
+    private final PropertyRepository propertyRepository = mock(PropertyRepository.class);
+    private final PropertySearchIndex index = new PropertySearchIndex(propertyRepository, true, 0.01);
+
+    @Test
+    void propertySavedWhileTheTableIsReadSurvivesTheRebuild() {
+        Property listed = property(1L, "Flat in Baner");
+        Property posted = property(2L, "Villa in Aundh");
+        // The second listing commits after the rebuild's snapshot was taken
+        when(propertyRepository.findActiveWithDetails()).thenAnswer(invocation -> {
+            index.onPropertySaved(posted);
+            return List.of(listed);
+        });
+
+        index.rebuild();
+
+        assertThat(index.search(byId())).extracting(PropertyDTO::getPropertyId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void pagePastTheEndStillCountsFacets() {
+        when(propertyRepository.findActiveWithDetails())
+                .thenReturn(List.of(property(1L, "Flat in Baner"), property(2L, "Villa in Aundh")));
+        index.rebuild();
+
+        PropertySearchRequest request = byId();
+        request.setPage(5);
+        PropertySearchResultDTO result = index.searchWithFacets(request);
+
+        assertThat(result.getProperties()).isEmpty();
+        assertThat(result.getTotalCount()).isEqualTo(2L);
+    }
+
+    private static PropertySearchRequest byId() {
+        PropertySearchRequest request = new PropertySearchRequest();
+        request.setSortBy("id");
+        request.setSortOrder("ASC");
+        return request;
+    }
+
+    private static Property property(Long id, String title) {
+        Property property = new Property();
+        property.setId(id);
+        property.setTitle(title);
+        property.setCity("Pune");
+        property.setPrice(new BigDecimal("5000000"));
+        property.setIsActive(true);
+        return property;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.realestate.bench;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * --key=value command-line options for the generator and the load test
+ */
+final class Args {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    Args(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+    }
+
+    String string(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    String required(String key) {
+        String value = values.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required option --" + key);
+        }
+        return value;
+    }
+
+    long longValue(String key, long defaultValue) {
+        String value = values.get(key);
+        return value != null ? parseCount(value) : defaultValue;
+    }
+
+    int intValue(String key, int defaultValue) {
+        return Math.toIntExact(longValue(key, defaultValue));
+    }
+
+    double doubleValue(String key, double defaultValue) {
+        String value = values.get(key);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    boolean flag(String key) {
+        return Boolean.parseBoolean(values.getOrDefault(key, "false"));
+    }
+
+    /**
+     * ISO-8601 (PT30S) or a number with an s/m suffix (30s, 2m)
+     */
+    Duration duration(String key, Duration defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+
+    // Accepts 10000, 10k and 10m (and 10_000)
+    private static long parseCount(String value) {
+        String v = value.replace("_", "").toLowerCase();
+        if (v.endsWith("k")) {
+            return Long.parseLong(v.substring(0, v.length() - 1)) * 1_000;
+        }
+        if (v.endsWith("m")) {
+            return Long.parseLong(v.substring(0, v.length() - 1)) * 1_000_000;
+        }
+        return Long.parseLong(v);
+    }
+}
@@ -0,0 +1,563 @@
+package com.example.realestate.bench;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic bulk loader for a local MySQL or H2 database: cities and areas, agents, sellers
+ * and buyers, properties with images, and deals with their stage history, at any scale from 1K
+ * to 10M properties. Popularity is Zipf-skewed (a few cities, areas, sellers, agents and hot
+ * listings carry most of the rows), prices are log-normal, deal stages follow a funnel and
+ * listing dates lean recent. The same --seed and --properties always produce the same rows.
+ * <p>
+ * Rows go in through JDBC batches (rewriteBatchedStatements on MySQL) and the deal stage
+ * counters are rebuilt at the end, so the app can be started straight on the loaded data.
+ * The schema must already exist: RealEstateDB.sql on MySQL, or one start of the backend with
+ * the h2 profile. Every generated user has the password given by --user-password.
+ * <pre>
+ * java -cp target/benchmarks.jar com.example.realestate.bench.DataGenerator \
+ *     --url=jdbc:mysql://localhost:3306/realestate --user=root --password=... --properties=1m --reset
+ * </pre>
+ */
+public final class DataGenerator {
+
+    // Deal stages in funnel order with the share of deals currently sitting in each
+    private static final String[] STAGES = {"INQUIRY", "SHORTLIST", "NEGOTIATION", "AGREEMENT", "REGISTRATION", "PAYMENT", "COMPLETED"};
+    private static final double[] STAGE_SHARE = {0.38, 0.20, 0.14, 0.10, 0.07, 0.04, 0.07};
+
+    // Listing and deal dates are spread over the two years before this instant
+    private static final LocalDateTime AS_OF = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int HISTORY_MINUTES = 2 * 365 * 24 * 60;
+
+    private static final int AREAS_PER_CITY = 40;
+
+    private final Connection connection;
+    private final boolean mysql;
+    private final long seed;
+    private final int batchSize;
+    private final double skew;
+
+    private final int propertyCount;
+    private final int cityCount;
+    private final int agentCount;
+    private final int sellerCount;
+    private final int buyerCount;
+    private final int dealCount;
+
+    // Per-property state the image and deal passes need; 12 bytes a property
+    private long[] propertyPrice;
+    private int[] propertyCreatedMinute;
+
+    private int[] typeIds;
+    private double[] cityMultiplier;
+    private double[][] areaCentroids;
+
+    private DataGenerator(Connection connection, boolean mysql, Args args) {
+        this.connection = connection;
+        this.mysql = mysql;
+        this.seed = args.longValue("seed", 42L);
+        this.batchSize = args.intValue("batch-size", 5_000);
+        this.skew = args.doubleValue("skew", 1.0);
+        this.propertyCount = args.intValue("properties", 10_000);
+        this.cityCount = args.intValue("cities", clamp(propertyCount / 25_000, Fixtures.CITY_NAMES.length, 200));
+        this.agentCount = args.intValue("agents", Math.max(5, propertyCount / 500));
+        this.sellerCount = args.intValue("sellers", Math.max(10, propertyCount / 8));
+        this.buyerCount = args.intValue("buyers", Math.max(10, propertyCount / 4));
+        this.dealCount = (int) Math.round(propertyCount * args.doubleValue("deals-per-property", 0.5));
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Args args = new Args(argv);
+        String url = args.required("url");
+        boolean mysql = url.startsWith("jdbc:mysql:");
+        if (mysql && !url.contains("rewriteBatchedStatements")) {
+            // Lets the driver send each batch as one multi-row INSERT
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+
+        try (Connection connection = DriverManager.getConnection(url, args.string("user", "sa"), args.string("password", ""))) {
+            connection.setAutoCommit(false);
+            DataGenerator generator = new DataGenerator(connection, mysql, args);
+            generator.run(args.flag("reset"), args.string("user-password", "secret1"));
+        }
+    }
+
+    private void run(boolean reset, String userPassword) throws SQLException {
+        System.out.printf("Generating %,d properties, %,d deals, %,d agents, %,d sellers, %,d buyers in %d cities (seed %d)%n",
+                propertyCount, dealCount, agentCount, sellerCount, buyerCount, cityCount, seed);
+        long start = System.nanoTime();
+
+        prepare(reset);
+        typeIds = loadPropertyTypes();
+        // Hashed once: BCrypt per user would dominate the load at any real scale
+        String passwordHash = new BCryptPasswordEncoder().encode(userPassword);
+
+        generateCities();
+        generateUsers(passwordHash);
+        generateProperties();
+        generateImages();
+        generateDeals();
+        rebuildCounters();
+        finish();
+
+        System.out.printf("Done in %.1f s. Log in as admin, agent1, seller1 or buyer1 with password '%s'%n",
+                (System.nanoTime() - start) / 1e9, userPassword);
+    }
+
+    // ==================== SETUP ====================
+
+    private void prepare(boolean reset) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (reset) {
+                for (String table : new String[]{"deal_stage_event", "deal_stage_counter", "deal_status",
+                        "property_images", "property", "areas", "cities", "users"}) {
+                    statement.executeUpdate("DELETE FROM " + table);
+                    connection.commit();
+                }
+            } else if (count("property") > 0 || count("users") > 0) {
+                throw new IllegalStateException("Database already holds properties or users; rerun with --reset to replace them");
+            }
+            if (mysql) {
+                // Inserts respect foreign-key order; skipping the per-row checks is only a speed-up
+                statement.execute("SET foreign_key_checks = 0");
+                statement.execute("SET unique_checks = 0");
+            }
+        }
+    }
+
+    private void finish() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (mysql) {
+                statement.execute("SET foreign_key_checks = 1");
+                statement.execute("SET unique_checks = 1");
+            } else {
+                // H2 identity columns do not move past explicitly inserted ids on their own
+                restartIdentity(statement, "users", "id", userCount() + 1);
+                restartIdentity(statement, "cities", "city_id", cityCount + 1);
+                restartIdentity(statement, "areas", "area_id", (long) cityCount * AREAS_PER_CITY + 1);
+                restartIdentity(statement, "property", "id", propertyCount + 1);
+                restartIdentity(statement, "deal_status", "id", dealCount + 1L);
+            }
+        }
+        connection.commit();
+    }
+
+    private static void restartIdentity(Statement statement, String table, String column, long next) throws SQLException {
+        statement.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+    }
+
+    private long count(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private int[] loadPropertyTypes() throws SQLException {
+        if (count("property_types") == 0) {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO property_types (property_type_id, type_name, is_active) VALUES (?, ?, TRUE)")) {
+                for (int i = 0; i < Fixtures.TYPE_NAMES.length; i++) {
+                    insert.setInt(1, i + 1);
+                    insert.setString(2, Fixtures.TYPE_NAMES[i]);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+        List<Integer> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT property_type_id FROM property_types ORDER BY property_type_id")) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // ==================== REFERENCE DATA ====================
+
+    private void generateCities() throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        Timestamp created = Timestamp.valueOf(AS_OF.minusYears(3));
+        String[] cityNames = new String[cityCount];
+        cityMultiplier = new double[cityCount];
+        try (Batch cities = new Batch("cities",
+                "INSERT INTO cities (city_id, city_name, state, is_active, created_at, updated_at) VALUES (?, ?, ?, TRUE, ?, ?)")) {
+            for (int c = 0; c < cityCount; c++) {
+                boolean named = c < Fixtures.CITY_NAMES.length;
+                cityNames[c] = named ? Fixtures.CITY_NAMES[c] : "City " + (c + 1);
+                // The most popular cities are also the most expensive
+                cityMultiplier[c] = 1.6 - 0.9 * c / Math.max(1, cityCount - 1);
+                cities.row(c + 1, cityNames[c], named ? Fixtures.STATES[c] : "State " + (1 + c % 28), created, created);
+            }
+        }
+
+        areaCentroids = new double[cityCount * AREAS_PER_CITY][];
+        try (Batch areas = new Batch("areas",
+                "INSERT INTO areas (area_id, city_id, area_name, pincode, latitude, longitude, is_active, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?)")) {
+            for (int c = 0; c < cityCount; c++) {
+                double latitude = 10 + random.nextDouble() * 18;
+                double longitude = 72 + random.nextDouble() * 16;
+                for (int a = 0; a < AREAS_PER_CITY; a++) {
+                    int areaId = c * AREAS_PER_CITY + a + 1;
+                    double[] centroid = {latitude + (random.nextDouble() - 0.5) * 0.3, longitude + (random.nextDouble() - 0.5) * 0.3};
+                    areaCentroids[areaId - 1] = centroid;
+                    areas.row(areaId, c + 1, cityNames[c] + " Sector " + (a + 1), String.valueOf(100000 + areaId),
+                            centroid[0], centroid[1], created, created);
+                }
+            }
+        }
+    }
+
+    private int userCount() {
+        return 1 + agentCount + sellerCount + buyerCount;
+    }
+
+    // Ids: 1 admin, then agents, sellers and buyers in consecutive ranges
+    private long agentId(int index) {
+        return 2L + index;
+    }
+
+    private long sellerId(int index) {
+        return 2L + agentCount + index;
+    }
+
+    private long buyerId(int index) {
+        return 2L + agentCount + sellerCount + index;
+    }
+
+    private void generateUsers(String passwordHash) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        try (Batch users = new Batch("users",
+                "INSERT INTO users (id, username, password, email, first_name, last_name, mobile_number, address, role, "
+                        + "is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?)")) {
+            user(users, random, 1L, "admin", "ADMIN", passwordHash);
+            for (int i = 0; i < agentCount; i++) {
+                user(users, random, agentId(i), "agent" + (i + 1), "AGENT", passwordHash);
+            }
+            for (int i = 0; i < sellerCount; i++) {
+                user(users, random, sellerId(i), "seller" + (i + 1), "USER", passwordHash);
+            }
+            for (int i = 0; i < buyerCount; i++) {
+                user(users, random, buyerId(i), "buyer" + (i + 1), "USER", passwordHash);
+            }
+        }
+    }
+
+    private void user(Batch users, SplittableRandom random, long id, String username, String role,
+                      String passwordHash) throws SQLException {
+        Timestamp created = minutesBefore(random.nextInt(HISTORY_MINUTES));
+        users.row(id, username, passwordHash, username + "@example.com",
+                capitalize(username.replaceAll("\\d", "")), "No" + id,
+                String.valueOf(6_000_000_000L + id), "Block " + (1 + id % 50) + ", Ring Road",
+                role, created, created);
+    }
+
+    // ==================== PROPERTIES ====================
+
+    private void generateProperties() throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed + 2);
+        Zipf cities = new Zipf(cityCount, skew);
+        Zipf areas = new Zipf(AREAS_PER_CITY, skew * 0.8);
+        Zipf sellers = new Zipf(sellerCount, skew);
+        propertyPrice = new long[propertyCount];
+        propertyCreatedMinute = new int[propertyCount];
+
+        try (Batch properties = new Batch("property",
+                "INSERT INTO property (id, user_id, title, description, type, city, image_url, price_display, "
+                        + "property_type_id, area_id, address, latitude, longitude, price, area_sqft, bedrooms, bathrooms, "
+                        + "balconies, amenities, status, listing_type, owner_type, is_featured, is_active, is_verified, "
+                        + "is_ready_to_move, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < propertyCount; i++) {
+                long id = i + 1L;
+                int city = cities.next(random);
+                int areaId = city * AREAS_PER_CITY + areas.next(random) + 1;
+                int typeIndex = random.nextInt(typeIds.length);
+                String typeName = typeIndex < Fixtures.TYPE_NAMES.length ? Fixtures.TYPE_NAMES[typeIndex] : "Property";
+                boolean land = "Plot".equals(typeName) || "Commercial".equals(typeName);
+                boolean rent = random.nextInt(4) == 0;
+                Integer bedrooms = land ? null : 1 + Math.min(5, (int) Math.abs(random.nextGaussian() * 1.3 + 1.5));
+                String cityName = city < Fixtures.CITY_NAMES.length ? Fixtures.CITY_NAMES[city] : "City " + (city + 1);
+                String areaName = cityName + " Sector " + ((areaId - 1) % AREAS_PER_CITY + 1);
+
+                double size = bedrooms != null ? 0.5 + 0.25 * bedrooms : 1.5;
+                long price = rent
+                        ? roundTo(logNormal(random, 25_000, 0.5) * cityMultiplier[city] * size, 500)
+                        : roundTo(logNormal(random, 7_500_000, 0.6) * cityMultiplier[city] * size, 10_000);
+                propertyPrice[i] = price;
+                // Squaring skews listing dates towards the recent end of the window
+                int createdMinute = (int) (HISTORY_MINUTES * Math.pow(random.nextDouble(), 2));
+                propertyCreatedMinute[i] = createdMinute;
+                Timestamp created = minutesBefore(createdMinute);
+
+                Double latitude = null;
+                Double longitude = null;
+                // A quarter of listings carry no coordinates and fall back to the area centroid
+                if (random.nextInt(4) != 0) {
+                    latitude = areaCentroids[areaId - 1][0] + (random.nextDouble() - 0.5) * 0.02;
+                    longitude = areaCentroids[areaId - 1][1] + (random.nextDouble() - 0.5) * 0.02;
+                }
+
+                properties.row(id, sellerId(sellers.next(random)),
+                        (bedrooms != null ? bedrooms + "BHK " : "") + pick(random, Fixtures.FEATURES) + " " + typeName
+                                + " in " + areaName,
+                        "A " + pick(random, Fixtures.FEATURES) + ", " + pick(random, Fixtures.FEATURES) + " "
+                                + typeName.toLowerCase(Locale.ROOT) + " in " + areaName + " with "
+                                + pick(random, Fixtures.FEATURES) + " surroundings, close to schools and hospitals.",
+                        land ? "Commercial" : "Residential", cityName,
+                        "https://placehold.co/600x400?text=Property+" + id, priceDisplay(price, rent),
+                        typeIds[typeIndex], areaId, (1 + random.nextInt(400)) + " Main Road, " + areaName,
+                        latitude, longitude, BigDecimal.valueOf(price),
+                        BigDecimal.valueOf(roundTo(logNormal(random, 1_100, 0.4) * size, 10)),
+                        bedrooms, bedrooms != null ? Math.max(1, bedrooms - random.nextInt(2)) : null,
+                        bedrooms != null ? random.nextInt(3) : 0,
+                        pick(random, Fixtures.AMENITIES) + "," + pick(random, Fixtures.AMENITIES) + ","
+                                + pick(random, Fixtures.AMENITIES),
+                        random.nextInt(10) == 0 ? "sold" : "available", rent ? "rent" : "sale",
+                        pick(random, Fixtures.OWNER_TYPES), random.nextInt(100) == 0, random.nextInt(50) != 0,
+                        random.nextInt(3) == 0, random.nextBoolean(), created, created);
+            }
+        }
+    }
+
+    private void generateImages() throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed + 3);
+        try (Batch images = new Batch("property_images",
+                "INSERT INTO property_images (property_id, image_url, is_primary, display_order, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < propertyCount; i++) {
+                long id = i + 1L;
+                int count = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(6);
+                Timestamp created = minutesBefore(propertyCreatedMinute[i]);
+                for (int order = 0; order < count; order++) {
+                    images.row(id, "/uploads/properties/" + id + "/" + (order + 1) + ".jpg", order == 0, order, created);
+                }
+            }
+        }
+    }
+
+    // ==================== DEALS ====================
+
+    private void generateDeals() throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed + 4);
+        Zipf hotListings = new Zipf(propertyCount, skew);
+        Zipf agents = new Zipf(agentCount, skew);
+        // Spreads Zipf ranks over the id space so the hot listings are not simply the oldest ones
+        long stride = coprimeStride(propertyCount);
+
+        try (Batch deals = new Batch("deal_status",
+                "INSERT INTO deal_status (id, property_id, buyer_id, agent_id, stage, notes, agreed_price, last_updated_by, "
+                        + "created_at, updated_at, inquiry_date, shortlist_date, negotiation_date, agreement_date, "
+                        + "registration_date, payment_date, completed_date) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch events = new Batch("deal_stage_event",
+                     "INSERT INTO deal_stage_event (deal_id, from_stage, to_stage, note, author, created_at) VALUES (?, ?, ?, ?, ?, ?)", deals)) {
+            for (int d = 0; d < dealCount; d++) {
+                long dealId = d + 1L;
+                int property = (int) ((hotListings.next(random) * stride) % propertyCount);
+                int stage = funnelStage(random);
+                Long agentId = random.nextInt(20) == 0 ? null : agentId(agents.next(random));
+                String author = agentId != null ? "agent" + (agentId - 1) : "admin";
+
+                // Each reached stage gets a date a few days after the previous one, never past AS_OF
+                int minute = propertyCreatedMinute[property] - random.nextInt(Math.max(1, Math.min(propertyCreatedMinute[property], 60 * 24 * 60)));
+                Timestamp[] stageDates = new Timestamp[STAGES.length];
+                for (int s = 0; s <= stage; s++) {
+                    if (s > 0) {
+                        minute = Math.max(0, minute - (1 + random.nextInt(10)) * 24 * 60);
+                    }
+                    stageDates[s] = minutesBefore(minute);
+                }
+
+                BigDecimal agreedPrice = stage >= 2
+                        ? BigDecimal.valueOf(roundTo(propertyPrice[property] * (0.9 + random.nextDouble() * 0.1), 1_000))
+                        : null;
+                Object[] values = new Object[17];
+                values[0] = dealId;
+                values[1] = property + 1L;
+                values[2] = buyerId(random.nextInt(buyerCount));
+                values[3] = agentId;
+                values[4] = STAGES[stage];
+                values[5] = random.nextInt(3) == 0 ? "Buyer asked for a site visit" : null;
+                values[6] = agreedPrice;
+                values[7] = author;
+                values[8] = stageDates[0];
+                values[9] = stageDates[stage];
+                System.arraycopy(stageDates, 0, values, 10, STAGES.length);
+                deals.row(values);
+
+                for (int s = 0; s <= stage; s++) {
+                    events.row(dealId, s == 0 ? null : STAGES[s - 1], STAGES[s], null, author, stageDates[s]);
+                }
+            }
+        }
+    }
+
+    private static int funnelStage(SplittableRandom random) {
+        double u = random.nextDouble();
+        for (int s = 0; s < STAGE_SHARE.length; s++) {
+            u -= STAGE_SHARE[s];
+            if (u < 0) {
+                return s;
+            }
+        }
+        return STAGE_SHARE.length - 1;
+    }
+
+    // Same statements as DealStageCounterRepository's rebuild
+    private void rebuildCounters() throws SQLException {
+        long start = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM deal_stage_counter");
+            statement.executeUpdate("INSERT INTO deal_stage_counter (agent_id, stage, deal_count, agreed_price_sum, updated_at) "
+                    + "SELECT 0, stage, COUNT(*), COALESCE(SUM(agreed_price), 0), CURRENT_TIMESTAMP "
+                    + "FROM deal_status GROUP BY stage");
+            statement.executeUpdate("INSERT INTO deal_stage_counter (agent_id, stage, deal_count, agreed_price_sum, updated_at) "
+                    + "SELECT agent_id, stage, COUNT(*), COALESCE(SUM(agreed_price), 0), CURRENT_TIMESTAMP "
+                    + "FROM deal_status WHERE agent_id IS NOT NULL GROUP BY agent_id, stage");
+        }
+        connection.commit();
+        System.out.printf("  %-18s rebuilt in %.1f s%n", "deal_stage_counter", (System.nanoTime() - start) / 1e9);
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * One table's insert statement, flushed and committed every batchSize rows.
+     * A child batch flushes its parent first, so referenced rows always land before their references.
+     */
+    private final class Batch implements AutoCloseable {
+        private final String table;
+        private final PreparedStatement statement;
+        private final Batch parent;
+        private final long start = System.nanoTime();
+        private int pending;
+        private long rows;
+
+        Batch(String table, String sql) throws SQLException {
+            this(table, sql, null);
+        }
+
+        Batch(String table, String sql, Batch parent) throws SQLException {
+            this.table = table;
+            this.statement = connection.prepareStatement(sql);
+            this.parent = parent;
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            rows++;
+            if (++pending == batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("  %-18s %,12d rows in %6.1f s (%,.0f rows/s)%n", table, rows, seconds, rows / Math.max(seconds, 1e-9));
+        }
+    }
+
+    /**
+     * Bounded Zipf-like sampler over ranks 0..n-1 by inverting the continuous power law,
+     * so it needs no per-rank table even at 10M ranks
+     */
+    private static final class Zipf {
+        private final int n;
+        private final double exponent;
+
+        Zipf(int n, double exponent) {
+            this.n = n;
+            this.exponent = exponent;
+        }
+
+        int next(SplittableRandom random) {
+            double u = random.nextDouble();
+            double x;
+            if (Math.abs(exponent - 1.0) < 1e-9) {
+                x = Math.pow(n + 1.0, u);
+            } else {
+                double oneMinus = 1.0 - exponent;
+                x = Math.pow(u * (Math.pow(n + 1.0, oneMinus) - 1.0) + 1.0, 1.0 / oneMinus);
+            }
+            return Math.min(n - 1, Math.max(0, (int) x - 1));
+        }
+    }
+
+    private static long coprimeStride(int n) {
+        long stride = 1_000_003L;
+        while (gcd(stride, n) != 1) {
+            stride += 2;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static double logNormal(SplittableRandom random, double median, double sigma) {
+        return median * Math.exp(sigma * random.nextGaussian());
+    }
+
+    private static long roundTo(double value, long step) {
+        return Math.max(step, Math.round(value / step) * step);
+    }
+
+    private static String priceDisplay(long price, boolean rent) {
+        if (rent) {
+            return String.format("₹ %,d/month", price);
+        }
+        if (price >= 10_000_000) {
+            return String.format("₹ %.1f Cr", price / 10_000_000.0).replace(".0 ", " ");
+        }
+        return String.format("₹ %d Lacs", Math.round(price / 100_000.0));
+    }
+
+    private static Timestamp minutesBefore(int minutes) {
+        return Timestamp.valueOf(AS_OF.minusMinutes(minutes));
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String capitalize(String value) {
+        return value.isEmpty() ? value : Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
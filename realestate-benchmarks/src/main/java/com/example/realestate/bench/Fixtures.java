@@ -0,0 +1,227 @@
+package com.example.realestate.bench;
+
+import com.example.realestate.model.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Seeded synthetic object graph shaped like production data: cities with areas, property types,
+ * owners, agents and buyers, listings with text, prices and coordinates, and deals spread across
+ * every stage. The same seed always yields the same graph, so runs are comparable.
+ */
+public final class Fixtures {
+
+    // Centre and spread of the generated coordinates (about 35 km either way)
+    public static final double CENTER_LATITUDE = 12.97;
+    public static final double CENTER_LONGITUDE = 77.59;
+    private static final double SPREAD_DEGREES = 0.3;
+
+    // Vocabulary shared with DataGenerator, in the casing the sample dataset uses
+    static final String[] CITY_NAMES = {"Bengaluru", "Mumbai", "Pune", "Hyderabad", "Chennai", "Delhi"};
+    static final String[] STATES = {"Karnataka", "Maharashtra", "Maharashtra", "Telangana", "Tamil Nadu", "Delhi"};
+    static final String[] TYPE_NAMES = {"Apartment", "Villa", "House", "Plot", "Commercial", "Penthouse", "Studio", "Duplex"};
+    static final String[] LISTING_TYPES = {"sale", "rent"};
+    static final String[] OWNER_TYPES = {"owner", "agent", "builder"};
+    static final String[] STATUSES = {"available", "under_construction", "sold"};
+    static final String[] FEATURES = {"spacious", "sunny", "corner", "renovated", "furnished", "quiet",
+            "gated community", "lake view", "park facing", "near metro", "modular kitchen", "east facing"};
+    static final String[] AMENITIES = {"Gym", "Swimming Pool", "Parking", "Lift", "Power Backup",
+            "Security", "Clubhouse", "Garden", "Play Area", "Jogging Track"};
+
+    public final List<City> cities = new ArrayList<>();
+    public final List<Area> areas = new ArrayList<>();
+    public final List<PropertyType> propertyTypes = new ArrayList<>();
+    public final List<User> owners = new ArrayList<>();
+    public final List<User> agents = new ArrayList<>();
+    public final List<User> buyers = new ArrayList<>();
+    public final List<Property> properties = new ArrayList<>();
+    public final List<DealStatus> deals = new ArrayList<>();
+
+    private final Random random;
+    private long userIds;
+
+    private Fixtures(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Build a graph with the given number of listings and deals (deals spread over agentCount agents)
+     */
+    public static Fixtures generate(int propertyCount, int dealCount, int agentCount, long seed) {
+        Fixtures fixtures = new Fixtures(seed);
+        fixtures.buildReferenceData();
+        for (int i = 0; i < Math.max(1, propertyCount / 20); i++) {
+            fixtures.owners.add(fixtures.user(User.UserRole.USER));
+        }
+        for (int i = 0; i < agentCount; i++) {
+            fixtures.agents.add(fixtures.user(User.UserRole.AGENT));
+        }
+        for (int i = 0; i < Math.max(1, dealCount / 3); i++) {
+            fixtures.buyers.add(fixtures.user(User.UserRole.USER));
+        }
+        for (int i = 1; i <= propertyCount; i++) {
+            fixtures.properties.add(fixtures.property(i));
+        }
+        for (int i = 1; i <= dealCount && !fixtures.properties.isEmpty(); i++) {
+            fixtures.deals.add(fixtures.deal(i));
+        }
+        return fixtures;
+    }
+
+    /**
+     * Deals of one agent, as DealStatusRepository.findByAgentId would return them
+     */
+    public List<DealStatus> dealsOfAgent(Long agentId) {
+        List<DealStatus> result = new ArrayList<>();
+        for (DealStatus deal : deals) {
+            if (deal.getAgent() != null && agentId.equals(deal.getAgent().getId())) {
+                result.add(deal);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The global and per-agent rows deal_stage_counter would hold for these deals
+     */
+    public List<DealStageCounter> stageCounters(boolean perAgent) {
+        Map<List<Object>, DealStageCounter> counters = new LinkedHashMap<>();
+        for (DealStatus deal : deals) {
+            Long agentId = perAgent ? (deal.getAgent() != null ? deal.getAgent().getId() : null) : DealStageCounter.GLOBAL;
+            if (agentId == null) {
+                continue;
+            }
+            DealStageCounter counter = counters.computeIfAbsent(List.of(agentId, deal.getStage()), key -> {
+                DealStageCounter c = new DealStageCounter();
+                c.setAgentId(agentId);
+                c.setStage(deal.getStage());
+                c.setDealCount(0L);
+                c.setAgreedPriceSum(BigDecimal.ZERO);
+                return c;
+            });
+            counter.setDealCount(counter.getDealCount() + 1);
+            if (deal.getAgreedPrice() != null) {
+                counter.setAgreedPriceSum(counter.getAgreedPriceSum().add(deal.getAgreedPrice()));
+            }
+        }
+        return new ArrayList<>(counters.values());
+    }
+
+    private void buildReferenceData() {
+        for (int c = 0; c < CITY_NAMES.length; c++) {
+            City city = new City();
+            city.setCityId(c + 1);
+            city.setCityName(CITY_NAMES[c]);
+            city.setState(STATES[c]);
+            city.setIsActive(true);
+            cities.add(city);
+            for (int a = 1; a <= 20; a++) {
+                Area area = new Area();
+                area.setAreaId(areas.size() + 1);
+                area.setCity(city);
+                area.setAreaName(CITY_NAMES[c] + " Sector " + a);
+                area.setPincode(String.valueOf(560000 + areas.size()));
+                area.setLatitude(CENTER_LATITUDE + (random.nextDouble() * 2 - 1) * SPREAD_DEGREES);
+                area.setLongitude(CENTER_LONGITUDE + (random.nextDouble() * 2 - 1) * SPREAD_DEGREES);
+                area.setIsActive(true);
+                areas.add(area);
+            }
+        }
+        for (int t = 0; t < TYPE_NAMES.length; t++) {
+            PropertyType type = new PropertyType();
+            type.setPropertyTypeId(t + 1);
+            type.setTypeName(TYPE_NAMES[t]);
+            type.setIsActive(true);
+            propertyTypes.add(type);
+        }
+    }
+
+    private User user(User.UserRole role) {
+        long id = ++userIds;
+        User user = new User();
+        user.setId(id);
+        user.setUsername(role.name().toLowerCase(Locale.ROOT) + id);
+        user.setEmail(role.name().toLowerCase(Locale.ROOT) + id + "@example.com");
+        user.setFirstName("First" + id);
+        user.setLastName("Last" + id);
+        user.setMobileNumber(String.valueOf(9_000_000_000L + id));
+        user.setRole(role);
+        user.setIsActive(true);
+        return user;
+    }
+
+    private Property property(long id) {
+        Area area = areas.get(random.nextInt(areas.size()));
+        PropertyType type = propertyTypes.get(random.nextInt(propertyTypes.size()));
+        int bedrooms = 1 + random.nextInt(5);
+
+        Property property = new Property();
+        property.setId(id);
+        property.setTitle(bedrooms + " BHK " + type.getTypeName() + " in " + area.getAreaName());
+        property.setDescription("A " + pick(FEATURES) + ", " + pick(FEATURES) + " " + type.getTypeName().toLowerCase(Locale.ROOT)
+                + " with " + pick(FEATURES) + " surroundings, close to schools and hospitals.");
+        property.setPropertyType(type);
+        property.setArea(area);
+        property.setCity(area.getCity().getCityName());
+        property.setAddress((1 + random.nextInt(400)) + " Main Road, " + area.getAreaName());
+        property.setPrice(BigDecimal.valueOf(1_000_000L + random.nextInt(200) * 100_000L));
+        property.setPriceDisplay(property.getPrice().toPlainString());
+        property.setAreaSqft(BigDecimal.valueOf(400 + random.nextInt(3600)));
+        property.setBedrooms(bedrooms);
+        property.setBathrooms(Math.max(1, bedrooms - random.nextInt(2)));
+        property.setBalconies(random.nextInt(3));
+        property.setAmenities(pick(AMENITIES) + "," + pick(AMENITIES) + "," + pick(AMENITIES));
+        property.setStatus(pick(STATUSES));
+        property.setListingType(pick(LISTING_TYPES));
+        property.setOwnerType(pick(OWNER_TYPES));
+        property.setIsVerified(random.nextBoolean());
+        property.setIsReadyToMove(random.nextBoolean());
+        property.setIsFeatured(random.nextInt(20) == 0);
+        property.setIsActive(true);
+        property.setImageUrl("/uploads/properties/" + id + ".jpg");
+        // Most listings carry their own coordinates; the rest fall back to the area centroid
+        if (random.nextInt(4) != 0) {
+            property.setLatitude(area.getLatitude() + (random.nextDouble() - 0.5) * 0.02);
+            property.setLongitude(area.getLongitude() + (random.nextDouble() - 0.5) * 0.02);
+        }
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id * 7 + random.nextInt(7));
+        property.setCreatedAt(createdAt);
+        property.setUpdatedAt(createdAt);
+        property.setUser(owners.get(random.nextInt(owners.size())));
+        return property;
+    }
+
+    private DealStatus deal(long id) {
+        DealStatus.DealStage[] stages = DealStatus.DealStage.values();
+        DealStatus.DealStage stage = stages[random.nextInt(stages.length)];
+        Property property = properties.get(random.nextInt(properties.size()));
+        LocalDateTime start = property.getCreatedAt().plusDays(1 + random.nextInt(30));
+
+        DealStatus deal = new DealStatus();
+        deal.setId(id);
+        deal.setProperty(property);
+        deal.setBuyer(buyers.get(random.nextInt(buyers.size())));
+        deal.setAgent(agents.isEmpty() ? null : agents.get(random.nextInt(agents.size())));
+        deal.setStage(stage);
+        deal.setAgreedPrice(stage.getOrder() >= DealStatus.DealStage.NEGOTIATION.getOrder()
+                ? property.getPrice().multiply(BigDecimal.valueOf(95, 2)) : null);
+        deal.setNotes("Stage " + stage.name().toLowerCase(Locale.ROOT));
+        deal.setLastUpdatedBy("agent");
+        deal.setCreatedAt(start);
+        deal.setUpdatedAt(start.plusDays(stage.getOrder()));
+        deal.setInquiryDate(start);
+        if (stage.getOrder() >= 2) deal.setShortlistDate(start.plusDays(1));
+        if (stage.getOrder() >= 3) deal.setNegotiationDate(start.plusDays(2));
+        if (stage.getOrder() >= 4) deal.setAgreementDate(start.plusDays(3));
+        if (stage.getOrder() >= 5) deal.setRegistrationDate(start.plusDays(4));
+        if (stage.getOrder() >= 6) deal.setPaymentDate(start.plusDays(5));
+        if (stage.getOrder() >= 7) deal.setCompletedDate(start.plusDays(6));
+        return deal;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
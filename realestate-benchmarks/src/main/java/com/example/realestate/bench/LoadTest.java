@@ -0,0 +1,309 @@
+package com.example.realestate.bench;
+
+import com.example.realestate.util.LatencyHistogram;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load test against a running backend loaded by DataGenerator. Each scenario runs
+ * its own virtual users concurrently with the others, so the report shows how the endpoints
+ * hold up under a shared load:
+ * <ul>
+ *   <li>search: POST /api/properties/search with a mix of structured and keyword requests</li>
+ *   <li>my-deals: GET /api/deals/my-deals as buyers, sellers and agents</li>
+ *   <li>dashboard: GET /api/deals/admin/dashboard as admin</li>
+ *   <li>login: a login storm on POST /api/auth/login (BCrypt work; expect 429s when shed)</li>
+ * </ul>
+ * Reports requests, throughput, status counts and p50/p90/p99/max latency per scenario, then
+ * the server's own pool and hashing statistics.
+ * <p>
+ * When the login storm runs with other scenarios, those first run alone for the same duration as
+ * a baseline, and the report compares each one's p99 with and without the storm. The run exits
+ * with status 1 when a p99 grows by more than --p99-tolerance (1.5x by default); --no-baseline
+ * skips the baseline phase.
+ * <pre>
+ * java -cp target/benchmarks.jar com.example.realestate.bench.LoadTest \
+ *     --base-url=http://localhost:8080 --duration=60s --scenarios=search,my-deals,dashboard,login
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final String password;
+    private final Duration timeout;
+
+    private LoadTest(String baseUrl, String password, Duration timeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.password = password;
+        this.timeout = timeout;
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Args args = new Args(argv);
+        LoadTest test = new LoadTest(args.string("base-url", "http://localhost:8080"),
+                args.string("user-password", "secret1"), args.duration("timeout", Duration.ofSeconds(30)));
+        test.run(args);
+    }
+
+    private void run(Args args) throws Exception {
+        Duration warmup = args.duration("warmup", Duration.ofSeconds(10));
+        Duration duration = args.duration("duration", Duration.ofSeconds(60));
+        int accounts = args.intValue("accounts", 10);
+        List<String> names = List.of(args.string("scenarios", "search,my-deals,dashboard,login").split(","));
+
+        // Sessions are opened before the clock starts so the login scenario is the only BCrypt load
+        String adminToken = login("admin");
+        List<String[]> dealSessions = new ArrayList<>();
+        for (int i = 1; i <= accounts; i++) {
+            dealSessions.add(new String[]{login("buyer" + i), "BUYER"});
+            dealSessions.add(new String[]{login("seller" + i), "SELLER"});
+            // The generator creates at least 5 agents and 10 buyers and sellers
+            if (i <= 5) {
+                dealSessions.add(new String[]{login("agent" + i), "AGENT"});
+            }
+        }
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : names) {
+            switch (name.trim()) {
+                case "search" -> scenarios.add(new Scenario("search", args.intValue("search-users", 16),
+                        random -> post("/api/properties/search", searchRequest(random), null)));
+                case "my-deals" -> scenarios.add(new Scenario("my-deals", args.intValue("deal-users", 8), random -> {
+                    String[] session = dealSessions.get(random.nextInt(dealSessions.size()));
+                    return get("/api/deals/my-deals?userRole=" + session[1], session[0]);
+                }));
+                case "dashboard" -> scenarios.add(new Scenario("dashboard", args.intValue("dashboard-users", 2),
+                        random -> get("/api/deals/admin/dashboard", adminToken)));
+                case "login" -> scenarios.add(new Scenario("login", args.intValue("login-users", 64),
+                        random -> post("/api/auth/login", loginBody("buyer" + (1 + random.nextInt(accounts))), null)));
+                default -> throw new IllegalArgumentException("Unknown scenario: " + name);
+            }
+        }
+
+        // With a login storm in the mix, the other scenarios first run alone so their p99 can be compared
+        List<Scenario> background = scenarios.stream().filter(scenario -> !scenario.name.equals("login")).toList();
+        boolean compare = !args.flag("no-baseline") && !background.isEmpty() && background.size() < scenarios.size();
+
+        System.out.printf("Warming up for %d s%n", warmup.toSeconds());
+        runFor(scenarios, warmup);
+
+        Map<String, Double> baselineP99 = new LinkedHashMap<>();
+        if (compare) {
+            measure("baseline, no login storm", background, duration);
+            background.forEach(scenario -> baselineP99.put(scenario.name, p99(scenario)));
+        }
+        measure(compare ? "during the login storm" : "all scenarios", scenarios, duration);
+        boolean holds = !compare || printStormComparison(background, baselineP99, args.doubleValue("p99-tolerance", 1.5));
+
+        printServerStats("/api/admin/datasources", adminToken);
+        printServerStats("/api/admin/auth/hashing", adminToken);
+        if (!holds) {
+            System.exit(1);
+        }
+    }
+
+    private static void measure(String phase, List<Scenario> scenarios, Duration duration) throws InterruptedException {
+        scenarios.forEach(Scenario::reset);
+        System.out.printf("Measuring %s for %d s%n", phase, duration.toSeconds());
+        long start = System.nanoTime();
+        runFor(scenarios, duration);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%n%s%n%-10s %6s %9s %10s %8s %8s %8s %8s  %s%n", phase,
+                "scenario", "users", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "status");
+        for (Scenario scenario : scenarios) {
+            Map<String, Object> latency = scenario.latency.snapshot();
+            System.out.printf("%-10s %6d %9d %10.1f %8s %8s %8s %8s  %s%n",
+                    scenario.name, scenario.users, scenario.requests.get(), scenario.requests.get() / seconds,
+                    latency.get("p50"), latency.get("p90"), latency.get("p99"), latency.get("max"),
+                    new TreeMap<>(scenario.statuses));
+        }
+        System.out.println();
+    }
+
+    /**
+     * p99 of each scenario with and without the login storm; false when any grew past the tolerance
+     */
+    private static boolean printStormComparison(List<Scenario> scenarios, Map<String, Double> baselineP99, double tolerance) {
+        boolean holds = true;
+        System.out.printf("p99 with and without the login storm (tolerance %.2fx)%n%-10s %12s %10s %7s%n",
+                tolerance, "scenario", "baseline ms", "storm ms", "ratio");
+        for (Scenario scenario : scenarios) {
+            double baseline = baselineP99.get(scenario.name);
+            double storm = p99(scenario);
+            double ratio = baseline > 0 ? storm / baseline : 1.0;
+            boolean scenarioHolds = ratio <= tolerance;
+            holds &= scenarioHolds;
+            System.out.printf("%-10s %12.2f %10.2f %6.2fx  %s%n", scenario.name, baseline, storm, ratio,
+                    scenarioHolds ? "holds" : "DEGRADED");
+        }
+        return holds;
+    }
+
+    private static double p99(Scenario scenario) {
+        return ((Number) scenario.latency.snapshot().get("p99")).doubleValue();
+    }
+
+    // ==================== SCENARIOS ====================
+
+    @FunctionalInterface
+    private interface Call {
+        int send(ThreadLocalRandom random) throws IOException, InterruptedException;
+    }
+
+    private static final class Scenario {
+        final String name;
+        final int users;
+        final Call call;
+        volatile LatencyHistogram latency = new LatencyHistogram();
+        final AtomicLong requests = new AtomicLong();
+        final Map<String, AtomicLong> statuses = new ConcurrentHashMap<>();
+
+        Scenario(String name, int users, Call call) {
+            this.name = name;
+            this.users = users;
+            this.call = call;
+        }
+
+        void reset() {
+            latency = new LatencyHistogram();
+            requests.set(0);
+            statuses.clear();
+        }
+
+        void once() {
+            long start = System.nanoTime();
+            String status;
+            try {
+                status = String.valueOf(call.send(ThreadLocalRandom.current()));
+            } catch (IOException e) {
+                status = e.getClass().getSimpleName();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            latency.record(System.nanoTime() - start);
+            requests.incrementAndGet();
+            statuses.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private static void runFor(List<Scenario> scenarios, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Thread> threads = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            for (int u = 0; u < scenario.users; u++) {
+                Thread thread = new Thread(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        scenario.once();
+                    }
+                }, scenario.name + "-" + u);
+                thread.setDaemon(true);
+                thread.start();
+                threads.add(thread);
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    // Cities follow the generator's popularity order, so most searches hit the large result sets
+    private static Map<String, Object> searchRequest(ThreadLocalRandom random) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        int kind = random.nextInt(10);
+        if (kind < 2) {
+            request.put("query", Fixtures.FEATURES[random.nextInt(Fixtures.FEATURES.length)] + " "
+                    + Fixtures.AMENITIES[random.nextInt(Fixtures.AMENITIES.length)]);
+        } else {
+            int city = Math.min(Fixtures.CITY_NAMES.length - 1, (int) Math.floor(Math.pow(Fixtures.CITY_NAMES.length + 1, random.nextDouble())) - 1);
+            request.put("city", Fixtures.CITY_NAMES[city]);
+            request.put("listingType", random.nextInt(4) == 0 ? "rent" : "sale");
+            if (kind < 7) {
+                request.put("minBedrooms", 1 + random.nextInt(3));
+            }
+            if (kind < 5) {
+                long min = 2_000_000L + random.nextInt(20) * 500_000L;
+                request.put("minPrice", min);
+                request.put("maxPrice", min * 3);
+            }
+            request.put("sortBy", random.nextBoolean() ? "price" : "createdAt");
+            request.put("sortOrder", random.nextBoolean() ? "ASC" : "DESC");
+        }
+        // Mostly first pages, with the odd deep page
+        request.put("page", random.nextInt(10) == 0 ? random.nextInt(20) : random.nextInt(3));
+        request.put("size", 20);
+        return request;
+    }
+
+    private Map<String, Object> loginBody(String username) {
+        return Map.of("username", username, "password", password);
+    }
+
+    // ==================== HTTP ====================
+
+    private String login(String username) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request("/api/auth/login", null)
+                        .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(loginBody(username))))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode token = MAPPER.readTree(response.body()).path("data").path("token");
+        if (response.statusCode() != 200 || token.isMissingNode()) {
+            throw new IllegalStateException("Login failed for " + username + " (" + response.statusCode()
+                    + "); load the database with DataGenerator first");
+        }
+        return token.asText();
+    }
+
+    private int get(String path, String token) throws IOException, InterruptedException {
+        return client.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int post(String path, Object body, String token) throws IOException, InterruptedException {
+        return client.send(request(path, token)
+                        .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private void printServerStats(String path, String token) {
+        try {
+            HttpResponse<String> response = client.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                System.out.printf("%n%s%n%s%n", path, MAPPER.writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(MAPPER.readTree(response.body()).path("data")));
+            }
+        } catch (IOException e) {
+            System.out.printf("%n%s unavailable: %s%n", path, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.realestate.bench;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for Spring Data repositories and @Autowired fields, so services can be
+ * benchmarked without a database or an application context.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * A repository whose listed methods answer from the given functions (keyed by method name);
+     * any other call fails, so a benchmark never silently measures a no-op
+     */
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "Stub<" + type.getSimpleName() + ">";
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "equals":
+                    return self == args[0];
+                default:
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName()
+                                + " is not stubbed");
+                    }
+                    return answer.apply(args);
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    /**
+     * Set a private (typically @Autowired) field on target
+     */
+    public static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot inject " + fieldName + " into " + target.getClass().getSimpleName(), e);
+        }
+    }
+}
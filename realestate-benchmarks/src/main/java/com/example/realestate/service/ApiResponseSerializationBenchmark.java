@@ -0,0 +1,52 @@
+package com.example.realestate.service;
+
+import com.example.realestate.bench.Fixtures;
+import com.example.realestate.dto.ApiResponse;
+import com.example.realestate.dto.PropertyDTO;
+import com.example.realestate.model.Property;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of ApiResponse&lt;List&lt;PropertyDTO&gt;&gt;, the body of every listing and
+ * search response, with an ObjectMapper configured the way Spring MVC builds its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    // 20 is the default page size; 100 the default MAX_SEARCH_RESULTS cap
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<PropertyDTO>> response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+
+        List<PropertyDTO> page = new ArrayList<>(pageSize);
+        for (Property property : Fixtures.generate(pageSize, 0, 0, 42L).properties) {
+            page.add(PropertySearchService.convertToDTO(property));
+        }
+        response = ApiResponse.success(page);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
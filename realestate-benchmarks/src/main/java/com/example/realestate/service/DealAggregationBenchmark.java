@@ -0,0 +1,102 @@
+package com.example.realestate.service;
+
+import com.example.realestate.bench.Fixtures;
+import com.example.realestate.bench.Stubs;
+import com.example.realestate.dto.AdminDealDashboardDTO;
+import com.example.realestate.model.DealStageCounter;
+import com.example.realestate.model.DealStatus;
+import com.example.realestate.model.User;
+import com.example.realestate.repository.DealStageCounterRepository;
+import com.example.realestate.repository.DealStatusRepository;
+import com.example.realestate.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deal-stage aggregation behind the admin dashboard and the agent stats endpoint.
+ * <p>
+ * getAdminDashboard now reads the materialized deal_stage_counter rows, so its cost is
+ * O(stages + agents); streamingDashboard keeps the earlier one-stream-per-stage scan over every
+ * deal as a baseline to compare against. agentStats is AgentService.getAgentStats, which still
+ * streams over the agent's deals once per stage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DealAggregationBenchmark {
+
+    @Param({"10000", "100000"})
+    public int deals;
+
+    @Param({"50"})
+    public int agents;
+
+    private DealService dealService;
+    private AgentService agentService;
+    private List<DealStatus> allDeals;
+    private Long agentId;
+
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = Fixtures.generate(Math.max(100, deals / 10), deals, agents, 42L);
+        allDeals = fixtures.deals;
+        agentId = fixtures.agents.get(0).getId();
+        List<DealStatus> agentDeals = fixtures.dealsOfAgent(agentId);
+        List<DealStageCounter> globalCounters = fixtures.stageCounters(false);
+        List<DealStageCounter> agentCounters = fixtures.stageCounters(true);
+
+        DealStageCounterRepository counterRepository = Stubs.repository(DealStageCounterRepository.class, Map.of(
+                "findGlobalCounters", args -> globalCounters,
+                "findAgentCounters", args -> agentCounters));
+        UserRepository userRepository = Stubs.repository(UserRepository.class,
+                Map.of("findByRole", args -> args[0] == User.UserRole.AGENT ? fixtures.agents : List.of()));
+        DealStatusRepository dealStatusRepository = Stubs.repository(DealStatusRepository.class,
+                Map.of("findByAgentId", args -> agentDeals));
+
+        dealService = new DealService();
+        Stubs.inject(dealService, "dealStatsService",
+                new DealStatsService(counterRepository, dealStatusRepository, userRepository));
+
+        agentService = new AgentService();
+        Stubs.inject(agentService, "dealStatusRepository", dealStatusRepository);
+    }
+
+    @Benchmark
+    public AdminDealDashboardDTO adminDashboard() {
+        return dealService.getAdminDashboard();
+    }
+
+    /**
+     * The pre-counter dashboard: active, completed and every stage each counted by its own
+     * stream over all deals (agent performance left out; it repeated the pattern per agent)
+     */
+    @Benchmark
+    public Map<String, Long> streamingDashboard() {
+        Map<String, Long> totals = new HashMap<>();
+        totals.put("totalDeals", (long) allDeals.size());
+        totals.put("activeDealCount", allDeals.stream()
+                .filter(d -> d.getStage() != DealStatus.DealStage.COMPLETED)
+                .count());
+        totals.put("completedDealCount", allDeals.stream()
+                .filter(d -> d.getStage() == DealStatus.DealStage.COMPLETED)
+                .count());
+        for (DealStatus.DealStage stage : DealStatus.DealStage.values()) {
+            totals.put(stage.name(), allDeals.stream()
+                    .filter(d -> d.getStage() == stage)
+                    .count());
+        }
+        return totals;
+    }
+
+    @Benchmark
+    public Map<String, Object> agentStats() {
+        return agentService.getAgentStats(agentId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.realestate.service;
+
+import com.example.realestate.bench.Fixtures;
+import com.example.realestate.bench.Stubs;
+import com.example.realestate.dto.DealDetailDTO;
+import com.example.realestate.model.DealStatus;
+import com.example.realestate.repository.DealStatusRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DealService.convertToDealDetailDTO, driven through getDealsByAgentForAdmin with the
+ * repository answering from memory, so only the mapping (name concatenation, stage names,
+ * nested property/buyer/seller/agent reads) is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DealMappingBenchmark {
+
+    // Deals held by the one agent under test
+    @Param({"100", "1000"})
+    public int deals;
+
+    private DealService dealService;
+    private Long agentId;
+
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = Fixtures.generate(Math.max(100, deals / 2), deals, 1, 42L);
+        agentId = fixtures.agents.get(0).getId();
+        List<DealStatus> agentDeals = fixtures.dealsOfAgent(agentId);
+
+        DealStatusRepository dealStatusRepository = Stubs.repository(DealStatusRepository.class,
+                Map.of("findByAgentId", args -> agentDeals));
+        dealService = new DealService();
+        Stubs.inject(dealService, "dealStatusRepository", dealStatusRepository);
+    }
+
+    @Benchmark
+    public List<DealDetailDTO> dealsByAgent() {
+        return dealService.getDealsByAgentForAdmin(agentId);
+    }
+}
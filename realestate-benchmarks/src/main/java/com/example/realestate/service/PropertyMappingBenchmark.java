@@ -0,0 +1,54 @@
+package com.example.realestate.service;
+
+import com.example.realestate.bench.Fixtures;
+import com.example.realestate.dto.PropertyDTO;
+import com.example.realestate.model.Property;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PropertySearchService.convertToDTO, which builds every search-index document and every DTO
+ * returned after a write. Lives in the service package because the mapper is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyMappingBenchmark {
+
+    @Param({"1000"})
+    public int properties;
+
+    private List<Property> fixtures;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        fixtures = Fixtures.generate(properties, 0, 0, 42L).properties;
+    }
+
+    @Benchmark
+    public PropertyDTO convertOne() {
+        Property property = fixtures.get(next);
+        next = next + 1 == fixtures.size() ? 0 : next + 1;
+        return PropertySearchService.convertToDTO(property);
+    }
+
+    /**
+     * A full page of 20, as a search response maps it
+     */
+    @Benchmark
+    public void convertPage(Blackhole blackhole) {
+        List<PropertyDTO> page = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            page.add(PropertySearchService.convertToDTO(fixtures.get(i)));
+        }
+        blackhole.consume(page);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.realestate.service;
+
+import com.example.realestate.bench.Fixtures;
+import com.example.realestate.bench.Stubs;
+import com.example.realestate.dto.PropertyDTO;
+import com.example.realestate.dto.PropertySearchRequest;
+import com.example.realestate.dto.PropertySearchResultDTO;
+import com.example.realestate.model.Property;
+import com.example.realestate.repository.PropertyRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queries against the in-memory PropertySearchIndex at catalogue scale: a structured filter
+ * sorted by price, the same filter with facets, a keyword search ranked by BM25 and a radius
+ * search. Run with -p properties=1000000 for the million-listing case; the JPQL path needs a
+ * database and is not covered here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchIndexBenchmark {
+
+    @Param({"100000"})
+    public int properties;
+
+    private PropertySearchIndex index;
+    private PropertySearchRequest structured;
+    private PropertySearchRequest keyword;
+    private PropertySearchRequest radius;
+
+    @Setup
+    public void setUp() {
+        List<Property> fixtures = Fixtures.generate(properties, 0, 0, 42L).properties;
+        PropertyRepository propertyRepository = Stubs.repository(PropertyRepository.class,
+                Map.of("findActiveWithDetails", args -> fixtures));
+        index = new PropertySearchIndex(propertyRepository, true, 0.01);
+        index.rebuild();
+
+        structured = new PropertySearchRequest();
+        structured.setCity("Bengaluru");
+        structured.setListingType("sale");
+        structured.setMinBedrooms(2);
+        structured.setMinPrice(BigDecimal.valueOf(3_000_000));
+        structured.setMaxPrice(BigDecimal.valueOf(12_000_000));
+        structured.setSortBy("price");
+        structured.setSortOrder("ASC");
+
+        keyword = new PropertySearchRequest();
+        keyword.setQuery("gated community swimming pool");
+
+        radius = new PropertySearchRequest();
+        radius.setLatitude(Fixtures.CENTER_LATITUDE);
+        radius.setLongitude(Fixtures.CENTER_LONGITUDE);
+        radius.setRadiusKm(5.0);
+    }
+
+    @Benchmark
+    public List<PropertyDTO> structuredSearch() {
+        return index.search(structured);
+    }
+
+    @Benchmark
+    public PropertySearchResultDTO structuredSearchWithFacets() {
+        return index.searchWithFacets(structured);
+    }
+
+    @Benchmark
+    public List<PropertyDTO> keywordSearch() {
+        return index.search(keyword);
+    }
+
+    @Benchmark
+    public List<PropertyDTO> radiusSearch() {
+        return index.search(radius);
+    }
+}
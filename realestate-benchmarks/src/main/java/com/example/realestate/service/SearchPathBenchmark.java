@@ -0,0 +1,119 @@
+package com.example.realestate.service;
+
+import com.example.realestate.RealEstateApplication;
+import com.example.realestate.bench.DataGenerator;
+import com.example.realestate.dto.PropertyDTO;
+import com.example.realestate.dto.PropertySearchRequest;
+import com.example.realestate.dto.PropertySearchResultDTO;
+import com.example.realestate.model.Area;
+import com.example.realestate.repository.AreaRepository;
+import com.example.realestate.repository.PropertyRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same searches through PropertySearchService on the JPQL path (path=database) and on the
+ * in-memory PropertySearchIndex (path=index), over one DataGenerator catalogue in an H2 file
+ * database under target/h2. The first run for a size generates the data, which takes several
+ * minutes at a million listings; later runs reuse it. Hibernate creates the H2 schema, so the
+ * property indexes from RealEstateDB.sql are added here; MySQL will not time the same, but the
+ * two paths see identical rows. Keyword search is left out because H2 has no MATCH ... AGAINST;
+ * SearchIndexBenchmark covers it on the index. The index at a million listings needs more than
+ * the 3g heap below; pass a larger one with -jvmArgsAppend, or a smaller size with -p properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class SearchPathBenchmark {
+
+    // Secondary indexes RealEstateDB.sql puts on property (FULLTEXT aside)
+    private static final String[] PROPERTY_INDEXES = {
+            "idx_user_id (user_id)", "idx_property_type (property_type_id)", "idx_area (area_id)",
+            "idx_price (price)", "idx_listing_type (listing_type)", "idx_status (status)", "idx_city (city)",
+            "idx_active_created (is_active, created_at, id)"};
+
+    @Param({"1000000"})
+    public int properties;
+
+    @Param({"database", "index"})
+    public String path;
+
+    private ConfigurableApplicationContext context;
+    private PropertySearchService propertySearchService;
+    private PropertySearchRequest structured;
+    private PropertySearchRequest radius;
+
+    @Setup
+    public void setUp() throws Exception {
+        // H2 would otherwise hand back the previous result of an identical query on unchanged tables
+        String url = "jdbc:h2:file:./target/h2/search-" + properties
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;OPTIMIZE_REUSE_RESULTS=FALSE";
+        context = new SpringApplicationBuilder(RealEstateApplication.class)
+                .profiles("h2")
+                .run("--spring.datasource.url=" + url,
+                        "--server.port=0",
+                        "--management.server.port=",
+                        "--search.index.enabled=" + "index".equals(path),
+                        "--sql.budget.mode=off",
+                        // Slow database searches are the measurement, not leaks
+                        "--spring.datasource.pools.interactive.leak-detection-threshold=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.example.realestate=WARN");
+
+        if (context.getBean(PropertyRepository.class).count() != properties) {
+            DataGenerator.main(new String[]{"--url=" + url, "--properties=" + properties,
+                    "--deals-per-property=0", "--reset"});
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+            for (String index : PROPERTY_INDEXES) {
+                jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + index.replace(" (", " ON property ("));
+            }
+            context.getBean(PropertySearchIndex.class).rebuild();
+        }
+        propertySearchService = context.getBean(PropertySearchService.class);
+
+        structured = new PropertySearchRequest();
+        structured.setCity("Bengaluru");
+        structured.setListingType("sale");
+        structured.setMinBedrooms(2);
+        structured.setMinPrice(BigDecimal.valueOf(3_000_000));
+        structured.setMaxPrice(BigDecimal.valueOf(12_000_000));
+        structured.setSortBy("price");
+        structured.setSortOrder("ASC");
+
+        Area area = context.getBean(AreaRepository.class).findById(1).orElseThrow();
+        radius = new PropertySearchRequest();
+        radius.setLatitude(area.getLatitude());
+        radius.setLongitude(area.getLongitude());
+        radius.setRadiusKm(5.0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PropertyDTO> structuredSearch() {
+        return propertySearchService.searchProperties(structured);
+    }
+
+    @Benchmark
+    public PropertySearchResultDTO structuredSearchWithFacets() {
+        return propertySearchService.searchPropertiesWithFacets(structured);
+    }
+
+    @Benchmark
+    public List<PropertyDTO> radiusSearch() {
+        return propertySearchService.searchProperties(radius);
+    }
+}
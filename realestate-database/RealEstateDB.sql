@@ -20,6 +20,8 @@ USE defaultdb;
 SET FOREIGN_KEY_CHECKS = 0;
 
 DROP TABLE IF EXISTS property_images;
+DROP TABLE IF EXISTS deal_stage_event;
+DROP TABLE IF EXISTS deal_stage_counter;
 DROP TABLE IF EXISTS deal_status;
 DROP TABLE IF EXISTS property;
 DROP TABLE IF EXISTS areas;
@@ -69,6 +71,8 @@ CREATE TABLE areas (
     city_id INT NOT NULL,
     area_name VARCHAR(200) NOT NULL,
     pincode VARCHAR(10) NOT NULL,
+    latitude DOUBLE, -- area centroid, the location of properties without their own coordinates
+    longitude DOUBLE,
     is_active BOOLEAN DEFAULT TRUE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
@@ -111,6 +115,8 @@ CREATE TABLE property (
     property_type_id INT,
     area_id INT,
     address TEXT,
+    latitude DOUBLE,
+    longitude DOUBLE,
     price DECIMAL(15, 2),
     area_sqft DECIMAL(10, 2),
     bedrooms INT,
@@ -135,7 +141,9 @@ CREATE TABLE property (
     INDEX idx_price (price),
     INDEX idx_listing_type (listing_type),
     INDEX idx_status (status),
-    INDEX idx_city (city)
+    INDEX idx_city (city),
+    INDEX idx_active_created (is_active, created_at, id), -- keyset feed: WHERE is_active ORDER BY created_at DESC, id DESC
+    FULLTEXT INDEX ft_property_text (title, description, address, amenities) -- keyword search: MATCH ... AGAINST
 );
 
 -- Property Images Table
@@ -179,11 +187,36 @@ CREATE TABLE deal_status (
     FOREIGN KEY (buyer_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (agent_id) REFERENCES users(id) ON DELETE SET NULL,
     INDEX idx_property (property_id),
+    INDEX idx_property_updated (property_id, updated_at),
     INDEX idx_buyer (buyer_id),
     INDEX idx_agent (agent_id),
     INDEX idx_stage (stage)
 );
 
+-- Deal Stage Event Table (append-only stage and note history per deal)
+CREATE TABLE deal_stage_event (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    deal_id BIGINT NOT NULL,
+    from_stage VARCHAR(50),
+    to_stage VARCHAR(50) NOT NULL,
+    note TEXT,
+    author VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (deal_id) REFERENCES deal_status(id) ON DELETE CASCADE,
+    INDEX idx_deal_created (deal_id, created_at, id)
+);
+
+-- Deal Stage Counter Table (materialized deal stats, agent_id 0 = all deals)
+CREATE TABLE deal_stage_counter (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    agent_id BIGINT NOT NULL DEFAULT 0,
+    stage VARCHAR(50) NOT NULL,
+    deal_count BIGINT NOT NULL DEFAULT 0,
+    agreed_price_sum DECIMAL(19,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_agent_stage (agent_id, stage)
+);
+
 -- Configuration Table
 CREATE TABLE configuration (
     config_id INT PRIMARY KEY AUTO_INCREMENT,
@@ -203,24 +236,26 @@ CREATE TABLE configuration (
 INSERT INTO cities (city_name, state) VALUES ('Hyderabad', 'Telangana');
 
 -- Insert Areas
-INSERT INTO areas (city_id, area_name, pincode) VALUES
-(1, 'Banjara Hills', '500034'), (1, 'Jubilee Hills', '500033'), (1, 'Somajiguda', '500082'),
-(1, 'Begumpet', '500016'), (1, 'Ameerpet', '500038'), (1, 'Punjagutta', '500082'),
-(1, 'Himayatnagar', '500029'), (1, 'Abids', '500001'), (1, 'Nampally', '500001'),
-(1, 'Madhapur', '500081'), (1, 'Gachibowli', '500032'), (1, 'HITEC City', '500081'),
-(1, 'Kondapur', '500084'), (1, 'Manikonda', '500089'), (1, 'Narsingi', '500075'),
-(1, 'Kokapet', '500075'), (1, 'Financial District', '500032'), (1, 'Secunderabad', '500003'),
-(1, 'Tarnaka', '500017'), (1, 'Uppal', '500039'), (1, 'Habsiguda', '500007'),
-(1, 'LB Nagar', '500074'), (1, 'Dilsukhnagar', '500060'), (1, 'Malakpet', '500036'),
-(1, 'Kukatpally', '500072'), (1, 'Miyapur', '500049'), (1, 'KPHB Colony', '500072'),
-(1, 'Nizampet', '500090'), (1, 'Bachupally', '500090'), (1, 'Tolichowki', '500008'),
-(1, 'Mehdipatnam', '500028'), (1, 'Attapur', '500048'), (1, 'Shamshabad', '500409');
+-- Latitude/longitude are approximate area centroids for radius and map searches
+INSERT INTO areas (city_id, area_name, pincode, latitude, longitude) VALUES
+(1, 'Banjara Hills', '500034', 17.4156, 78.4347), (1, 'Jubilee Hills', '500033', 17.4326, 78.4071), (1, 'Somajiguda', '500082', 17.4239, 78.4601),
+(1, 'Begumpet', '500016', 17.4447, 78.4664), (1, 'Ameerpet', '500038', 17.4375, 78.4482), (1, 'Punjagutta', '500082', 17.4254, 78.4510),
+(1, 'Himayatnagar', '500029', 17.4022, 78.4866), (1, 'Abids', '500001', 17.3924, 78.4764), (1, 'Nampally', '500001', 17.3898, 78.4687),
+(1, 'Madhapur', '500081', 17.4483, 78.3915), (1, 'Gachibowli', '500032', 17.4401, 78.3489), (1, 'HITEC City', '500081', 17.4474, 78.3762),
+(1, 'Kondapur', '500084', 17.4600, 78.3637), (1, 'Manikonda', '500089', 17.4040, 78.3869), (1, 'Narsingi', '500075', 17.3854, 78.3589),
+(1, 'Kokapet', '500075', 17.3958, 78.3321), (1, 'Financial District', '500032', 17.4135, 78.3400), (1, 'Secunderabad', '500003', 17.4399, 78.4983),
+(1, 'Tarnaka', '500017', 17.4280, 78.5385), (1, 'Uppal', '500039', 17.4058, 78.5591), (1, 'Habsiguda', '500007', 17.4184, 78.5432),
+(1, 'LB Nagar', '500074', 17.3457, 78.5522), (1, 'Dilsukhnagar', '500060', 17.3688, 78.5247), (1, 'Malakpet', '500036', 17.3740, 78.5050),
+(1, 'Kukatpally', '500072', 17.4849, 78.4138), (1, 'Miyapur', '500049', 17.4968, 78.3614), (1, 'KPHB Colony', '500072', 17.4930, 78.3990),
+(1, 'Nizampet', '500090', 17.5165, 78.3850), (1, 'Bachupally', '500090', 17.5431, 78.3644), (1, 'Tolichowki', '500008', 17.3970, 78.4140),
+(1, 'Mehdipatnam', '500028', 17.3950, 78.4400), (1, 'Attapur', '500048', 17.3689, 78.4312), (1, 'Shamshabad', '500409', 17.2403, 78.4294);
 
 -- Insert Configuration
 INSERT INTO configuration (config_key, config_value, description) VALUES
 ('ALLOWED_PINCODES', '500001,500003,500007,500008,500016,500017,500028,500029,500032,500033,500034,500036,500038,500039,500048,500049,500060,500072,500074,500075,500081,500082,500084,500089,500090,500409', 'Comma-separated list of allowed pincodes for Hyderabad'),
 ('DEFAULT_CITY', 'Hyderabad', 'Default city for property search'),
-('MAX_SEARCH_RESULTS', '100', 'Maximum number of search results to return');
+('MAX_SEARCH_RESULTS', '100', 'Maximum number of search results to return'),
+('FEATURED_PROPERTIES_COUNT', '6', 'Number of featured properties shown on the home page');
 
 -- ============================================
 --  STEP 5: FINAL VERIFICATION
@@ -0,0 +1,62 @@
+-- ===================================================================
+--    MIGRATION: area centroids and property coordinates
+--
+--    For databases created before RealEstateDB.sql gained the
+--    latitude/longitude columns (radius and bounding-box search).
+--    Safe to run more than once.
+-- ===================================================================
+USE defaultdb;
+
+-- MySQL has no ADD COLUMN IF NOT EXISTS, so each ALTER is built from information_schema
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE areas ADD COLUMN latitude DOUBLE AFTER pincode, ADD COLUMN longitude DOUBLE AFTER latitude',
+        'SELECT ''areas already has latitude/longitude''')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'areas' AND column_name = 'latitude');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE property ADD COLUMN latitude DOUBLE AFTER address, ADD COLUMN longitude DOUBLE AFTER latitude',
+        'SELECT ''property already has latitude/longitude''')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'property' AND column_name = 'latitude');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Centroids for the seeded Hyderabad areas; areas that already have one are left alone
+UPDATE areas SET latitude = 17.4156, longitude = 78.4347 WHERE area_name = 'Banjara Hills' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4326, longitude = 78.4071 WHERE area_name = 'Jubilee Hills' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4239, longitude = 78.4601 WHERE area_name = 'Somajiguda' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4447, longitude = 78.4664 WHERE area_name = 'Begumpet' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4375, longitude = 78.4482 WHERE area_name = 'Ameerpet' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4254, longitude = 78.4510 WHERE area_name = 'Punjagutta' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4022, longitude = 78.4866 WHERE area_name = 'Himayatnagar' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.3924, longitude = 78.4764 WHERE area_name = 'Abids' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.3898, longitude = 78.4687 WHERE area_name = 'Nampally' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4483, longitude = 78.3915 WHERE area_name = 'Madhapur' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4401, longitude = 78.3489 WHERE area_name = 'Gachibowli' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4474, longitude = 78.3762 WHERE area_name = 'HITEC City' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4600, longitude = 78.3637 WHERE area_name = 'Kondapur' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4040, longitude = 78.3869 WHERE area_name = 'Manikonda' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.3854, longitude = 78.3589 WHERE area_name = 'Narsingi' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.3958, longitude = 78.3321 WHERE area_name = 'Kokapet' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4135, longitude = 78.3400 WHERE area_name = 'Financial District' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4399, longitude = 78.4983 WHERE area_name = 'Secunderabad' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4280, longitude = 78.5385 WHERE area_name = 'Tarnaka' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4058, longitude = 78.5591 WHERE area_name = 'Uppal' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4184, longitude = 78.5432 WHERE area_name = 'Habsiguda' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.3457, longitude = 78.5522 WHERE area_name = 'LB Nagar' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.3688, longitude = 78.5247 WHERE area_name = 'Dilsukhnagar' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.3740, longitude = 78.5050 WHERE area_name = 'Malakpet' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4849, longitude = 78.4138 WHERE area_name = 'Kukatpally' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4968, longitude = 78.3614 WHERE area_name = 'Miyapur' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.4930, longitude = 78.3990 WHERE area_name = 'KPHB Colony' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.5165, longitude = 78.3850 WHERE area_name = 'Nizampet' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.5431, longitude = 78.3644 WHERE area_name = 'Bachupally' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.3970, longitude = 78.4140 WHERE area_name = 'Tolichowki' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.3950, longitude = 78.4400 WHERE area_name = 'Mehdipatnam' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.3689, longitude = 78.4312 WHERE area_name = 'Attapur' AND latitude IS NULL;
+UPDATE areas SET latitude = 17.2403, longitude = 78.4294 WHERE area_name = 'Shamshabad' AND latitude IS NULL;
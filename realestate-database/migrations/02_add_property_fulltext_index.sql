@@ -0,0 +1,18 @@
+-- ===================================================================
+--    MIGRATION: keyword search index
+--
+--    For databases created before RealEstateDB.sql gained the
+--    ft_property_text FULLTEXT index. Keyword searches that fall back
+--    to MATCH ... AGAINST fail without it. Safe to run more than once.
+-- ===================================================================
+USE defaultdb;
+
+-- The column list must match FullTextFunctionContributor's match_against exactly
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE property ADD FULLTEXT INDEX ft_property_text (title, description, address, amenities)',
+        'SELECT ''property already has ft_property_text''')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'property' AND index_name = 'ft_property_text');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,37 @@
+-- ===================================================================
+--    MIGRATION: deal stage counters
+--
+--    For databases created before RealEstateDB.sql gained the
+--    deal_stage_counter table. The dashboard and agent performance
+--    read their counts from it. The counters are filled from
+--    deal_status here and by the backend on its first start against an
+--    empty table; POST /api/deals/admin/stats/rebuild recomputes them
+--    later. Safe to run more than once.
+-- ===================================================================
+USE defaultdb;
+
+-- Same definition as RealEstateDB.sql (agent_id 0 = all deals)
+CREATE TABLE IF NOT EXISTS deal_stage_counter (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    agent_id BIGINT NOT NULL DEFAULT 0,
+    stage VARCHAR(50) NOT NULL,
+    deal_count BIGINT NOT NULL DEFAULT 0,
+    agreed_price_sum DECIMAL(19,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_agent_stage (agent_id, stage)
+);
+
+-- Seed only an empty table, so re-running never double counts
+SET @seed = (SELECT COUNT(*) = 0 FROM deal_stage_counter);
+
+INSERT INTO deal_stage_counter (agent_id, stage, deal_count, agreed_price_sum, updated_at)
+SELECT 0, stage, COUNT(*), COALESCE(SUM(agreed_price), 0), CURRENT_TIMESTAMP
+FROM deal_status
+WHERE @seed
+GROUP BY stage;
+
+INSERT INTO deal_stage_counter (agent_id, stage, deal_count, agreed_price_sum, updated_at)
+SELECT agent_id, stage, COUNT(*), COALESCE(SUM(agreed_price), 0), CURRENT_TIMESTAMP
+FROM deal_status
+WHERE @seed AND agent_id IS NOT NULL
+GROUP BY agent_id, stage;
@@ -0,0 +1,52 @@
+-- ===================================================================
+--    MIGRATION: deal stage event log and keyset indexes
+--
+--    For databases created before RealEstateDB.sql gained the
+--    deal_stage_event table and the idx_active_created and
+--    idx_property_updated indexes. Creating a deal and changing its
+--    stage insert into deal_stage_event, so both fail without it.
+--    Safe to run more than once.
+-- ===================================================================
+USE defaultdb;
+
+-- Same definition as RealEstateDB.sql
+CREATE TABLE IF NOT EXISTS deal_stage_event (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    deal_id BIGINT NOT NULL,
+    from_stage VARCHAR(50),
+    to_stage VARCHAR(50) NOT NULL,
+    note TEXT,
+    author VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (deal_id) REFERENCES deal_status(id) ON DELETE CASCADE,
+    INDEX idx_deal_created (deal_id, created_at, id)
+);
+
+-- Existing deals get one event holding their current stage and notes, so their history is not
+-- empty. Seed only an empty table, so re-running never duplicates events
+SET @seed = (SELECT COUNT(*) = 0 FROM deal_stage_event);
+
+INSERT INTO deal_stage_event (deal_id, from_stage, to_stage, note, author, created_at)
+SELECT id, NULL, stage, notes, last_updated_by, COALESCE(updated_at, created_at, CURRENT_TIMESTAMP)
+FROM deal_status
+WHERE @seed;
+
+-- Keyset feed: WHERE is_active ORDER BY created_at DESC, id DESC
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE property ADD INDEX idx_active_created (is_active, created_at, id)',
+        'SELECT ''property already has idx_active_created''')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'property' AND index_name = 'idx_active_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Seller deal list: deals joined through the seller's properties, newest update first
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE deal_status ADD INDEX idx_property_updated (property_id, updated_at)',
+        'SELECT ''deal_status already has idx_property_updated''')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'deal_status' AND index_name = 'idx_property_updated');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
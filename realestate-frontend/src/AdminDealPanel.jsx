@@ -33,7 +33,7 @@ const AdminDealPanel = () => {
       // ✅ Fetch admin dashboard to get all agents
       console.log("📊 Fetching admin dashboard data...");
       const adminRes = await fetch(
-        `${BACKEND_BASE_URL}/api/deals/admin/dashboard?userId=${user.id}`,
+        `${BACKEND_BASE_URL}/api/deals/admin/dashboard`,
         { headers }
       );
 
@@ -51,7 +51,7 @@ const AdminDealPanel = () => {
             );
 
             const agentDealsRes = await fetch(
-              `${BACKEND_BASE_URL}/api/deals/admin/agent/${agentPerf.agentId}?userId=${user.id}`,
+              `${BACKEND_BASE_URL}/api/deals/admin/agent/${agentPerf.agentId}`,
               { headers }
             );
 
@@ -16,6 +16,7 @@ const DealDetailModal = ({
   const [showDocUpload, setShowDocUpload] = useState(false);
   const [updating, setUpdating] = useState(false);
   const [notes, setNotes] = useState("");
+  const [events, setEvents] = useState([]);
   const [visitDate, setVisitDate] = useState(
     new Date().toISOString().substring(0, 10)
   );
@@ -89,6 +90,34 @@ const DealDetailModal = ({
     setVisitDate(new Date().toISOString().substring(0, 10));
   }, [initialDeal, userRole]);
 
+  // ========== NOTE HISTORY FROM THE DEAL EVENT LOG ==========
+  const fetchEvents = async (id) => {
+    if (!id) return;
+    try {
+      const response = await fetch(
+        `${BACKEND_BASE_URL}/api/deals/${id}/events?size=100`,
+        {
+          headers: {
+            Authorization: `Bearer ${localStorage.getItem("authToken")}`,
+          },
+        }
+      );
+      const data = await response.json();
+      if (response.ok && Array.isArray(data.data)) {
+        setEvents(data.data.filter((event) => event.note));
+      } else {
+        setEvents([]);
+      }
+    } catch (err) {
+      console.warn("Error fetching deal events:", err);
+      setEvents([]);
+    }
+  };
+
+  useEffect(() => {
+    fetchEvents(initialDeal?.id || initialDeal?.dealId);
+  }, [initialDeal]);
+
   // ========== BUILD TIMELINE FROM STAGE DATE FIELDS ==========
   const getTimelineData = (dealData = {}) => {
     const stages = [
@@ -179,6 +208,7 @@ const DealDetailModal = ({
       const data = await response.json();
       if (response.ok && data.data) {
         updateLocalAndParent(data.data);
+        fetchEvents(dealId);
         setNotes("");
         setVisitDate(new Date().toISOString().substring(0, 10));
         setActiveTab("timeline");
@@ -475,10 +505,26 @@ const DealDetailModal = ({
                 </div>
 
                 {/* Notes Section */}
-                {deal.notes && (
+                {(events.length > 0 || deal.notes) && (
                   <div style={{ ...styles.section, gridColumn: "1 / -1" }}>
                     <h3 style={styles.sectionTitle}>📝 Notes</h3>
-                    <div style={styles.notesBox}>{deal.notes}</div>
+                    {events.length > 0 ? (
+                      events.map((event) => (
+                        <div
+                          key={event.eventId}
+                          style={{ ...styles.notesBox, marginBottom: "8px" }}
+                        >
+                          <div style={styles.label}>
+                            {new Date(event.createdAt).toLocaleString()}
+                            {event.author ? ` - ${event.author}` : ""}
+                            {event.toStage ? ` (${event.toStage})` : ""}
+                          </div>
+                          {event.note}
+                        </div>
+                      ))
+                    ) : (
+                      <div style={styles.notesBox}>{deal.notes}</div>
+                    )}
                   </div>
                 )}
 
@@ -266,7 +266,11 @@ function PostPropertyModal({ onClose, onPropertyPosted }) {
         try {
             const response = await fetch(`${BACKEND_BASE_URL}/api/properties`, {
                 method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
+                headers: {
+                    'Content-Type': 'application/json',
+                    // The token lets the backend send this user's next reads to the primary database
+                    'Authorization': `Bearer ${localStorage.getItem('authToken')}`,
+                },
                 body: JSON.stringify(propertyData),
             });
 
@@ -207,7 +207,10 @@ function PropertyEditModal({ property, onClose, onPropertyUpdated }) {
         }`,
         {
           method: "PUT",
-          headers: { "Content-Type": "application/json" },
+          headers: {
+            "Content-Type": "application/json",
+            Authorization: `Bearer ${localStorage.getItem("authToken")}`,
+          },
           body: JSON.stringify(propertyData),
         }
       );
@@ -66,6 +66,9 @@ const PropertyCard = ({ property, onPropertyUpdated, onPropertyDeleted }) => {
         `${BACKEND_BASE_URL}/api/properties/${propertyId}`,
         {
           method: "DELETE",
+          headers: {
+            Authorization: `Bearer ${localStorage.getItem("authToken")}`,
+          },
         }
       );
 
@@ -106,7 +109,7 @@ const PropertyCard = ({ property, onPropertyUpdated, onPropertyDeleted }) => {
         {/* Image */}
         <div style={styles.imageContainer}>
           <img
-            src={property.imageUrl || getDefaultImage()}
+            src={property.primaryImageUrl || property.imageUrl || getDefaultImage()}
             alt={property.title}
             style={styles.image}
             onError={(e) => {
@@ -59,7 +59,7 @@ const AdminAgentsPage = () => {
     setDealsLoading(true);
     try {
       const response = await fetch(
-        `${BACKEND_BASE_URL}/api/deals/admin/agent/${agentId}?userId=${user.id}`,
+        `${BACKEND_BASE_URL}/api/deals/admin/agent/${agentId}`,
         {
           headers: {
             Authorization: `Bearer ${localStorage.getItem("authToken")}`,
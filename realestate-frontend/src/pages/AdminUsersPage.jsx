@@ -61,7 +61,7 @@ const AdminUsersPage = () => {
       if (selectedUserData.role === "AGENT") {
         console.log("Fetching agent deals for agent ID:", selectedUserData.id);
         const agentResponse = await fetch(
-          `${BACKEND_BASE_URL}/api/deals/admin/agent/${selectedUserData.id}?userId=${user.id}`,
+          `${BACKEND_BASE_URL}/api/deals/admin/agent/${selectedUserData.id}`,
           {
             headers: {
               Authorization: `Bearer ${localStorage.getItem("authToken")}`,
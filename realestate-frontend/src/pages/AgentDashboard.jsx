@@ -78,8 +78,9 @@ const AgentDashboard = () => {
       if (propsRes.ok) {
         const data = await propsRes.json();
         console.log("✅ Properties loaded:", data);
+        // The catalogue comes back as a slice: { content, nextCursor, hasNext, size }
         setProperties(
-          data.success ? data.data : Array.isArray(data) ? data : []
+          data.success ? data.data.content : Array.isArray(data) ? data : []
         );
       } else {
         console.log("⚠️ Properties endpoint failed");
@@ -341,6 +342,7 @@ const AgentDashboard = () => {
               <div key={prop.id || prop.propertyId} style={styles.propertyCard}>
                 <img
                   src={
+                    prop.primaryImageUrl ||
                     prop.imageUrl ||
                     "https://images.unsplash.com/photo-1560518883-ce09059eeffa?w=400&h=300&fit=crop"
                   }
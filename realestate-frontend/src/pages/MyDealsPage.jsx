@@ -44,7 +44,7 @@ const AdminDealPanel = () => {
           console.log(`📥 Fetching stage: ${stage}`);
 
           const res = await fetch(
-            `${BACKEND_BASE_URL}/api/deals/stage/${stage}?userId=${user.id}`,
+            `${BACKEND_BASE_URL}/api/deals/stage/${stage}`,
             { headers }
           );
 
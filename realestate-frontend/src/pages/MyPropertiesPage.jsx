@@ -37,7 +37,12 @@ function MyPropertiesPage({ onPostPropertyClick }) {
 
     try {
       const response = await fetch(
-        `${BACKEND_BASE_URL}/api/properties/user/${user.id}`
+        `${BACKEND_BASE_URL}/api/properties/user/${user.id}`,
+        {
+          headers: {
+            Authorization: `Bearer ${localStorage.getItem("authToken")}`,
+          },
+        }
       );
 
       console.log("Response status:", response.status);